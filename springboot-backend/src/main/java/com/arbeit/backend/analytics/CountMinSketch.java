@@ -0,0 +1,63 @@
+package com.arbeit.backend.analytics;
+
+import com.arbeit.backend.search.Hashing;
+
+// Count-Min sketch with real-valued counters and conservative update: an add only raises the cells that
+// sit at the key's current minimum, which keeps over-estimates from colliding keys much smaller than the
+// plain update. Counters can be rescaled in place, which is how decayed counts are kept in range.
+// Not thread-safe; callers guard it with their own lock.
+public class CountMinSketch {
+
+    private final int depth;
+    private final int mask;
+    private final double[] cells;
+    private final long[] seeds;
+
+    public CountMinSketch(int depth, int requestedWidth) {
+        this.depth = depth;
+        int width = Integer.highestOneBit(Math.max(2, requestedWidth - 1)) << 1;
+        this.mask = width - 1;
+        this.cells = new double[depth * width];
+        this.seeds = new long[depth];
+        long seed = 0x2545F4914F6CDD1DL;
+        for (int row = 0; row < depth; row++) {
+            seed = Hashing.mix(seed + row);
+            seeds[row] = seed;
+        }
+    }
+
+    // Adds amount to key and returns the new estimate
+    public double add(String key, double amount) {
+        long hash = Hashing.mix(key.hashCode());
+        double target = estimate(hash) + amount;
+        for (int row = 0; row < depth; row++) {
+            int index = index(row, hash);
+            if (cells[index] < target) {
+                cells[index] = target;
+            }
+        }
+        return target;
+    }
+
+    public double estimate(String key) {
+        return estimate(Hashing.mix(key.hashCode()));
+    }
+
+    private double estimate(long hash) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, cells[index(row, hash)]);
+        }
+        return estimate;
+    }
+
+    public void scale(double factor) {
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] *= factor;
+        }
+    }
+
+    private int index(int row, long hash) {
+        return row * (mask + 1) + (int) (Hashing.mix(hash ^ seeds[row]) & mask);
+    }
+}
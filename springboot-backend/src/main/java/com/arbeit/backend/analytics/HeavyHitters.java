@@ -0,0 +1,94 @@
+package com.arbeit.backend.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+// Space-Saving top-K list fed with Count-Min estimates: at most capacity keys are monitored, and a new key
+// replaces the smallest monitored one only when its estimate is larger. Each monitored key carries an
+// attachment (created on admission, discarded on eviction) so per-key state stays bounded as well.
+// Not thread-safe; callers guard it with their own lock.
+public class HeavyHitters<A> {
+
+    private final int capacity;
+    private final Supplier<A> attachmentFactory;
+    private final Map<String, Entry<A>> entries = new HashMap<>();
+    private final TreeSet<Entry<A>> ordered = new TreeSet<>(
+            Comparator.comparingDouble((Entry<A> e) -> e.count).thenComparing(e -> e.key));
+
+    public HeavyHitters(int capacity, Supplier<A> attachmentFactory) {
+        this.capacity = capacity;
+        this.attachmentFactory = attachmentFactory;
+    }
+
+    // Records the key's latest estimate; returns its entry, or null when the key did not make the list
+    public Entry<A> offer(String key, double estimate) {
+        Entry<A> entry = entries.get(key);
+        if (entry != null) {
+            ordered.remove(entry);
+            entry.count = estimate;
+            ordered.add(entry);
+            return entry;
+        }
+        if (entries.size() >= capacity) {
+            Entry<A> smallest = ordered.first();
+            if (smallest.count >= estimate) {
+                return null;
+            }
+            ordered.pollFirst();
+            entries.remove(smallest.key);
+        }
+        entry = new Entry<>(key, estimate, attachmentFactory.get());
+        entries.put(key, entry);
+        ordered.add(entry);
+        return entry;
+    }
+
+    // Re-sorts afterwards: very old counts can underflow to equal values and fall back to key order
+    public void scale(double factor) {
+        ordered.clear();
+        for (Entry<A> entry : entries.values()) {
+            entry.count *= factor;
+            ordered.add(entry);
+        }
+    }
+
+    // Monitored entries, largest first
+    public List<Entry<A>> entries() {
+        List<Entry<A>> result = new ArrayList<>(entries.size());
+        Iterator<Entry<A>> iterator = ordered.descendingIterator();
+        while (iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public static class Entry<A> {
+        private final String key;
+        private double count;
+        private final A attachment;
+
+        private Entry(String key, double count, A attachment) {
+            this.key = key;
+            this.count = count;
+            this.attachment = attachment;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public double getCount() {
+            return count;
+        }
+
+        public A getAttachment() {
+            return attachment;
+        }
+    }
+}
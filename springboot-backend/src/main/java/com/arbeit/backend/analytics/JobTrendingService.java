@@ -0,0 +1,159 @@
+package com.arbeit.backend.analytics;
+
+import com.arbeit.backend.dto.TrendingJob;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.search.JobCatalog;
+import com.arbeit.backend.service.JobService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Trending jobs by recent momentum. Views and applications are added to a Count-Min sketch as exponentially
+// decayed weights, and a Space-Saving list keeps the top jobs by estimate; each of those also carries a
+// HyperLogLog of its recent viewers. Memory is fixed by the sketch size and the list capacity, however
+// many jobs or visitors there are. The feed is rebuilt from the list on a timer, so a request only slices it.
+//
+// Decay uses forward decay: an event at time t adds weight * e^(lambda * (t - landmark)), so stored values
+// never need touching as time passes; they are divided by e^(lambda * (now - landmark)) when read, and
+// everything is rescaled to a new landmark before the exponent grows too large.
+@Service
+public class JobTrendingService {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double APPLICATION_WEIGHT = 5.0; // Applying is a much stronger signal than a view
+    private static final double UNIQUE_VIEWER_WEIGHT = 2.0;
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+    private static final int HLL_PRECISION = 10; // 1 KiB per generation, about 3% standard error
+    private static final double RESCALE_EXPONENT = 30;
+
+    private final JobCatalog jobCatalog;
+    private final double lambda; // per millisecond
+    private final long windowMillis;
+    private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+    private final HeavyHitters<Viewers> heavyHitters;
+    private long landmark = System.currentTimeMillis();
+
+    private volatile List<TrendingJob> snapshot = List.of();
+
+    public JobTrendingService(JobCatalog jobCatalog,
+                              @Value("${app.trending.half-life-minutes:60}") long halfLifeMinutes,
+                              @Value("${app.trending.tracked-jobs:200}") int trackedJobs) {
+        this.jobCatalog = jobCatalog;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(halfLifeMinutes);
+        this.lambda = Math.log(2) / windowMillis;
+        this.heavyHitters = new HeavyHitters<>(trackedJobs, Viewers::new);
+    }
+
+    // Both record methods are fed from JobViewService's drain, never from a request thread
+    public synchronized void recordView(String jobId, long visitorHash, long timestamp) {
+        HeavyHitters.Entry<Viewers> entry = record(jobId, VIEW_WEIGHT, timestamp);
+        if (entry != null) {
+            entry.getAttachment().add(visitorHash, timestamp / windowMillis);
+        }
+    }
+
+    public synchronized void recordApplication(String jobId, long timestamp) {
+        record(jobId, APPLICATION_WEIGHT, timestamp);
+    }
+
+    // Most trending active jobs first; the list is precomputed, so this is O(limit)
+    public List<TrendingJob> getTrending(Integer limit) {
+        int maxJobs = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        List<TrendingJob> current = snapshot;
+        return current.size() > maxJobs ? current.subList(0, maxJobs) : current;
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        List<String> jobIds = new ArrayList<>();
+        List<Double> scores = new ArrayList<>();
+        List<Long> viewers = new ArrayList<>();
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            double decay = Math.exp(-lambda * (now - landmark));
+            long window = now / windowMillis;
+            for (HeavyHitters.Entry<Viewers> entry : heavyHitters.entries()) {
+                long unique = entry.getAttachment().estimate(window);
+                jobIds.add(entry.getKey());
+                scores.add(entry.getCount() * decay + UNIQUE_VIEWER_WEIGHT * unique);
+                viewers.add(unique);
+            }
+        }
+
+        List<TrendingJob> trending = new ArrayList<>(jobIds.size());
+        for (int i = 0; i < jobIds.size(); i++) {
+            // Jobs closed or deleted since they were counted drop out here
+            Job job = jobCatalog.getByJobId(jobIds.get(i));
+            if (job != null) {
+                trending.add(new TrendingJob(job, scores.get(i), viewers.get(i)));
+            }
+        }
+        trending.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        snapshot = trending.size() > JobService.MAX_PAGE_SIZE
+                ? List.copyOf(trending.subList(0, JobService.MAX_PAGE_SIZE))
+                : List.copyOf(trending);
+    }
+
+    // 64-bit FNV-1a of the visitor key, so HyperLogLog gets well-spread hashes from short strings
+    public static long visitorHash(String visitor) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < visitor.length(); i++) {
+            hash = (hash ^ visitor.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        return hash ^ (hash >>> 33);
+    }
+
+    private HeavyHitters.Entry<Viewers> record(String jobId, double weight, long timestamp) {
+        double exponent = lambda * (timestamp - landmark);
+        if (exponent > RESCALE_EXPONENT) {
+            double factor = Math.exp(-exponent);
+            sketch.scale(factor);
+            heavyHitters.scale(factor);
+            landmark = timestamp;
+            exponent = 0;
+        }
+        double estimate = sketch.add(jobId, weight * Math.exp(exponent));
+        return heavyHitters.offer(jobId, estimate);
+    }
+
+    // Distinct viewers in the current and previous window, rotated lazily when a new window starts
+    private static class Viewers {
+        private HyperLogLog current = new HyperLogLog(HLL_PRECISION);
+        private HyperLogLog previous;
+        private long window = -1;
+
+        private void add(long visitorHash, long eventWindow) {
+            rotate(eventWindow);
+            current.add(visitorHash);
+        }
+
+        private long estimate(long nowWindow) {
+            if (nowWindow - window > 1) {
+                return 0;
+            }
+            if (nowWindow != window || previous == null) {
+                return current.estimate();
+            }
+            HyperLogLog union = current.copy();
+            union.merge(previous);
+            return union.estimate();
+        }
+
+        private void rotate(long eventWindow) {
+            if (eventWindow <= window) {
+                return;
+            }
+            previous = eventWindow == window + 1 ? current : null;
+            current = new HyperLogLog(HLL_PRECISION);
+            window = eventWindow;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.arbeit.backend.analytics;
+
+import com.arbeit.backend.repository.JobViewStatRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Job view tracking. Request threads only append to a lock-free ring; a background drain folds the events
+// into per-job hourly counters and a slower flush upserts those counters into job_view_stats as one JDBC
+// batch (a multi-row INSERT with rewriteBatchedStatements). A crash loses at most the ring contents plus
+// one flush interval of counts. Drained events also feed JobTrendingService, and applications reach it the
+// same way through a second ring, so neither request path ever waits on the trending sketch's lock.
+@Service
+public class JobViewService {
+
+    private static final long BUCKET_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int DRAIN_LIMIT = 100_000;
+    private static final int APPLICATION_BUFFER_CAPACITY = 4096;
+
+    private static final String UPSERT_SQL = "INSERT INTO job_view_stats (job_id, bucket_start, views) VALUES (?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE views = views + VALUES(views)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobViewStatRepository jobViewStatRepository;
+    private final JobTrendingService jobTrendingService;
+    private final ViewEventBuffer buffer;
+    private final ViewEventBuffer applications = new ViewEventBuffer(APPLICATION_BUFFER_CAPACITY);
+    private final int flushBatchSize;
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder droppedApplications = new LongAdder();
+
+    // bucket start (epoch millis) -> jobId -> views not yet written; guarded by this
+    private Map<Long, Map<String, Long>> pending = new HashMap<>();
+
+    public JobViewService(JdbcTemplate jdbcTemplate, JobViewStatRepository jobViewStatRepository,
+                          JobTrendingService jobTrendingService, MeterRegistry meterRegistry,
+                          @Value("${app.views.buffer-capacity:65536}") int bufferCapacity,
+                          @Value("${app.views.flush-batch-size:1000}") int flushBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jobViewStatRepository = jobViewStatRepository;
+        this.jobTrendingService = jobTrendingService;
+        this.buffer = new ViewEventBuffer(bufferCapacity);
+        this.flushBatchSize = flushBatchSize;
+
+        FunctionCounter.builder("jobs.views.dropped", dropped, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("jobs.views.buffered", buffer, ViewEventBuffer::size).register(meterRegistry);
+        FunctionCounter.builder("jobs.trending.applications.dropped", droppedApplications, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    // Request path: one CAS, no locks and no I/O. visitorHash identifies the viewer for unique counts.
+    public void recordView(String jobId, long visitorHash) {
+        if (!buffer.offer(jobId, visitorHash, System.currentTimeMillis())) {
+            dropped.increment();
+        }
+    }
+
+    // Submit path: same ring mechanics as views; the event only counts towards trending
+    public void recordApplication(String jobId) {
+        if (!applications.offer(jobId, 0, System.currentTimeMillis())) {
+            droppedApplications.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.drain-interval-ms:1000}")
+    public synchronized void drain() {
+        buffer.drain((jobId, visitor, timestamp) -> {
+            pending.computeIfAbsent(timestamp - Math.floorMod(timestamp, BUCKET_MILLIS), k -> new HashMap<>())
+                    .merge(jobId, 1L, Long::sum);
+            jobTrendingService.recordView(jobId, visitor, timestamp);
+        }, DRAIN_LIMIT);
+        applications.drain((jobId, visitor, timestamp) -> jobTrendingService.recordApplication(jobId, timestamp),
+                DRAIN_LIMIT);
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:10000}")
+    public void flush() {
+        Map<Long, Map<String, Long>> batch;
+        synchronized (this) {
+            drain();
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, Map<String, Long>> bucket : batch.entrySet()) {
+            Timestamp bucketStart = new Timestamp(bucket.getKey());
+            for (Map.Entry<String, Long> count : bucket.getValue().entrySet()) {
+                rows.add(new Object[]{count.getKey(), bucketStart, count.getValue()});
+            }
+        }
+        int from = 0;
+        try {
+            for (; from < rows.size(); from += flushBatchSize) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(rows.size(), from + flushBatchSize)));
+            }
+        } catch (RuntimeException e) {
+            // Earlier chunks are committed; keep the rest for the next attempt
+            restore(rows.subList(from, rows.size()));
+            throw e;
+        }
+    }
+
+    // Total flushed views per job; jobs never viewed map to 0
+    public Map<String, Long> totalViews(Collection<String> jobIds) {
+        Map<String, Long> totals = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return totals;
+        }
+        for (String jobId : jobIds) {
+            totals.put(jobId, 0L);
+        }
+        for (Object[] row : jobViewStatRepository.sumViewsByJobIds(jobIds)) {
+            totals.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        return totals;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private synchronized void restore(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            pending.computeIfAbsent(((Timestamp) row[1]).getTime(), k -> new HashMap<>())
+                    .merge((String) row[0], (Long) row[2], Long::sum);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.arbeit.backend.analytics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fixed-size multi-producer, single-consumer ring of (jobId, visitor, timestamp) events. Producers claim a sequence
+// with a CAS on the tail and publish the slot by storing its sequence; the consumer only reads slots whose
+// sequence has been published. Nothing blocks: when the ring is full, offer() drops the event.
+public class ViewEventBuffer {
+
+    private final int capacity;
+    private final int mask;
+    private final String[] jobIds;
+    private final long[] visitors;
+    private final long[] timestamps;
+    private final AtomicLongArray published; // slot -> sequence + 1 of the event written there
+    private final AtomicLong tail = new AtomicLong(); // next sequence to claim
+    private volatile long head; // next sequence to read; written by the consumer only
+
+    public ViewEventBuffer(int requestedCapacity) {
+        capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        mask = capacity - 1;
+        jobIds = new String[capacity];
+        visitors = new long[capacity];
+        timestamps = new long[capacity];
+        published = new AtomicLongArray(capacity);
+    }
+
+    public boolean offer(String jobId, long visitor, long timestamp) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        int slot = (int) sequence & mask;
+        jobIds[slot] = jobId;
+        visitors[slot] = visitor;
+        timestamps[slot] = timestamp;
+        // Release store: the consumer that sees this sequence also sees the slot contents
+        published.lazySet(slot, sequence + 1);
+        return true;
+    }
+
+    // Single consumer only. Stops at the first claimed-but-unpublished slot to keep events in order.
+    public int drain(EventConsumer consumer, int maxEvents) {
+        long sequence = head;
+        int drained = 0;
+        while (drained < maxEvents) {
+            int slot = (int) sequence & mask;
+            if (published.get(slot) != sequence + 1) {
+                break;
+            }
+            consumer.accept(jobIds[slot], visitors[slot], timestamps[slot]);
+            jobIds[slot] = null;
+            sequence++;
+            drained++;
+        }
+        head = sequence;
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    public interface EventConsumer {
+        void accept(String jobId, long visitor, long timestamp);
+    }
+}
@@ -0,0 +1,159 @@
+package com.arbeit.backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Size-bounded LRU cache split into independently locked stripes so concurrent readers rarely contend.
+// Entries can also expire a fixed time after they were written, which bounds how long a node serves
+// data changed through another instance. Exposes the standard cache.gets / cache.evictions / cache.size
+// meters tagged with the cache name.
+public class BoundedCache<K, V> {
+
+    private static final int STRIPES = 16;
+
+    private final List<Stripe<K, V>> stripes;
+    private final long ttlNanos; // 0 keeps entries until evicted or invalidated
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public BoundedCache(String name, int maxEntries, MeterRegistry meterRegistry) {
+        this(name, maxEntries, 0, meterRegistry);
+    }
+
+    public BoundedCache(String name, int maxEntries, long ttlMillis, MeterRegistry meterRegistry) {
+        if (ttlMillis < 0) {
+            throw new IllegalArgumentException("ttlMillis must not be negative");
+        }
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        int perStripe = Math.max(1, maxEntries / STRIPES);
+        List<Stripe<K, V>> created = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            created.add(new Stripe<>(perStripe, evictions));
+        }
+        stripes = List.copyOf(created);
+
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", name).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", name).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.size", this, BoundedCache::size)
+                .tag("cache", name).register(meterRegistry);
+    }
+
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        V value = null;
+        synchronized (stripe) {
+            Entry<V> entry = stripe.get(key);
+            if (entry != null) {
+                if (ttlNanos > 0 && System.nanoTime() - entry.writtenAt() >= ttlNanos) {
+                    stripe.remove(key);
+                } else {
+                    value = entry.value();
+                }
+            }
+        }
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    // The loader runs outside the stripe lock; concurrent misses may load the same key twice
+    public V get(K key, Function<K, V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private Stripe<K, V> stripeFor(K key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (STRIPES - 1));
+    }
+
+    private record Entry<V>(V value, long writtenAt) {
+    }
+
+    private static class Stripe<K, V> extends LinkedHashMap<K, Entry<V>> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+        private final LongAdder evictions;
+
+        private Stripe(int maxEntries, LongAdder evictions) {
+            super(16, 0.75f, true); // access order gives LRU eviction
+            this.maxEntries = maxEntries;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > maxEntries) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.arbeit.backend.cache;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+// Strong ETags for the public catalog and for each company's job list, derived from database state so
+// every instance hands out the same tag for the same data. Any write to a listed job moves updated_date,
+// the count or the applicant total; the company tag also covers flushed view counts.
+@Component
+public class CatalogVersions {
+
+    private static final String CATALOG_SQL =
+            "SELECT COUNT(*), MAX(updated_date), COALESCE(SUM(applicants), 0) FROM jobs WHERE status = 'Active'";
+    private static final String COMPANY_SQL =
+            "SELECT COUNT(*), MAX(updated_date), COALESCE(SUM(applicants), 0), " +
+            "(SELECT COALESCE(SUM(v.views), 0) FROM job_view_stats v JOIN jobs vj ON vj.job_id = v.job_id " +
+            "WHERE vj.company_email = ?) " +
+            "FROM jobs WHERE company_email = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CatalogVersions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public String catalogETag() {
+        return jdbcTemplate.queryForObject(CATALOG_SQL, (rs, rowNum) -> "\"jobs-" + version(rs) + "\"");
+    }
+
+    public String companyETag(String companyEmail) {
+        return jdbcTemplate.queryForObject(COMPANY_SQL,
+                (rs, rowNum) -> "\"company-" + Integer.toHexString(companyEmail.hashCode()) + "-" + version(rs)
+                        + "-" + rs.getLong(4) + "\"",
+                companyEmail, companyEmail);
+    }
+
+    private static String version(ResultSet rs) throws SQLException {
+        Timestamp lastUpdated = rs.getTimestamp(2);
+        return rs.getLong(1) + "-" + (lastUpdated != null ? lastUpdated.getTime() : 0) + "-" + rs.getLong(3);
+    }
+}
@@ -0,0 +1,68 @@
+package com.arbeit.backend.cache;
+
+import com.arbeit.backend.dto.JobSummary;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Near-cache in front of the public job listings. Local JobChangedEvents invalidate entries at once;
+// the TTL bounds how long a change made through another instance stays invisible here.
+@Component
+public class JobCache {
+
+    private final BoundedCache<String, List<Job>> listings;
+    private final BoundedCache<String, List<JobSummary>> summaryListings;
+    // Bumped on every invalidation so a load that raced with a write is never stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobCache(@Value("${app.cache.jobs.ttl-ms:30000}") long ttlMillis, MeterRegistry meterRegistry) {
+        this.listings = new BoundedCache<>("jobs.listings", 16, ttlMillis, meterRegistry);
+        this.summaryListings = new BoundedCache<>("jobs.summaryListings", 16, ttlMillis, meterRegistry);
+    }
+
+    // Listings are keyed by the catalog version (see CatalogVersions) read before the load, so a cached
+    // body is never older than the ETag it goes out with, whichever instance moved the version
+    public List<Job> getActiveJobs(String catalogVersion, Supplier<List<Job>> loader) {
+        List<Job> cached = listings.get(catalogVersion);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        List<Job> loaded = List.copyOf(loader.get());
+        putIfCurrent(loadGeneration, () -> listings.put(catalogVersion, loaded));
+        return loaded;
+    }
+
+    public List<JobSummary> getActiveJobSummaries(String catalogVersion, Supplier<List<JobSummary>> loader) {
+        List<JobSummary> cached = summaryListings.get(catalogVersion);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        List<JobSummary> loaded = List.copyOf(loader.get());
+        putIfCurrent(loadGeneration, () -> summaryListings.put(catalogVersion, loaded));
+        return loaded;
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            listings.invalidateAll();
+            summaryListings.invalidateAll();
+        }
+    }
+
+    private synchronized void putIfCurrent(long loadGeneration, Runnable put) {
+        if (generation.get() == loadGeneration) {
+            put.run();
+        }
+    }
+}
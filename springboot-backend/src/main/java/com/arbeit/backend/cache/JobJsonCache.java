@@ -0,0 +1,106 @@
+package com.arbeit.backend.cache;
+
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Job detail responses kept as ready-to-write JSON bytes, plus a gzip copy for larger bodies,
+// so repeat reads of a hot posting skip both the database and Jackson
+@Component
+public class JobJsonCache {
+
+    // Below this size gzip framing overhead outweighs the savings
+    private static final int GZIP_MIN_BYTES = 512;
+
+    private final ObjectMapper objectMapper;
+    private final BoundedCache<String, Optional<SerializedJob>> entries;
+    // Same race guard as JobCache: a render that overlapped an invalidation is returned but not stored
+    private final AtomicLong generation = new AtomicLong();
+
+    public JobJsonCache(ObjectMapper objectMapper,
+                        @Value("${app.cache.jobs.json-max-entries:2000}") int maxEntries,
+                        @Value("${app.cache.jobs.ttl-ms:30000}") long ttlMillis,
+                        MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.entries = new BoundedCache<>("jobs.json", maxEntries, ttlMillis, meterRegistry);
+    }
+
+    public Optional<SerializedJob> get(String jobId, Supplier<Optional<Job>> loader) {
+        Optional<SerializedJob> cached = entries.get(jobId);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = generation.get();
+        Optional<SerializedJob> rendered = loader.get().map(this::serialize);
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                entries.put(jobId, rendered);
+            }
+        }
+        return rendered;
+    }
+
+    // Every change type alters the payload, including the applicant counter. Events are local to this
+    // instance, so changes made elsewhere (counters included) show up once the entry's TTL runs out.
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            entries.invalidate(event.getJob().getJobId());
+        }
+    }
+
+    private SerializedJob serialize(Job job) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(job);
+            return new SerializedJob(json, json.length >= GZIP_MIN_BYTES ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job " + job.getJobId(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static class SerializedJob {
+        private final byte[] json;
+        private final byte[] gzip; // null when the body is too small to be worth compressing
+
+        public SerializedJob(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
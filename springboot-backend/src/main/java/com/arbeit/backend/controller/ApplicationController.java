@@ -1,17 +1,24 @@
 package com.arbeit.backend.controller;
 
 import com.arbeit.backend.dto.ApplicationDTO;
+import com.arbeit.backend.dto.ApplicationIntakeStatus;
+import com.arbeit.backend.dto.ListView;
 import com.arbeit.backend.model.Application;
+import com.arbeit.backend.service.ApplicationIntakeService;
 import com.arbeit.backend.service.ApplicationService;
 import com.arbeit.backend.service.FileService;
+import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/applications")
@@ -20,10 +27,13 @@ public class ApplicationController {
 
     private final ApplicationService applicationService;
     private final FileService fileService;
+    private final ApplicationIntakeService applicationIntakeService;
 
-    public ApplicationController(ApplicationService applicationService, FileService fileService) {
+    public ApplicationController(ApplicationService applicationService, FileService fileService,
+                                 ApplicationIntakeService applicationIntakeService) {
         this.applicationService = applicationService;
         this.fileService = fileService;
+        this.applicationIntakeService = applicationIntakeService;
     }
 
     @PostMapping
@@ -41,16 +51,60 @@ public class ApplicationController {
         }
     }
 
+    // Queues the submission and answers 202 with a tracking id; poll GET /applications/async for the outcome
+    @PostMapping("/async")
+    public ResponseEntity<?> submitApplicationAsync(@Valid @ModelAttribute ApplicationDTO applicationDTO) {
+        try {
+            Optional<ApplicationIntakeStatus> status = applicationIntakeService.submit(applicationDTO);
+            if (status.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header("Retry-After", "5")
+                        .body(Map.of("error", "Too many applications are being processed, please retry shortly"));
+            }
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to submit application"));
+        }
+    }
+
+    @GetMapping("/async")
+    public ResponseEntity<?> getAsyncApplicationStatus(@RequestParam String trackingId) {
+        Optional<ApplicationIntakeStatus> status = applicationIntakeService.getStatus(trackingId);
+        if (status.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Unknown tracking id"));
+        }
+        return ResponseEntity.ok(status.get());
+    }
+
     @GetMapping
-    public ResponseEntity<List<Application>> getAllApplications() {
+    public ResponseEntity<?> getAllApplications(@RequestParam(required = false) String view) {
         try {
-            List<Application> applications = applicationService.getAllApplications();
+            List<?> applications = ListView.parse(view) == ListView.SUMMARY
+                    ? applicationService.getAllApplicationSummaries()
+                    : applicationService.getAllApplications();
             return ResponseEntity.ok(applications);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // Same payload as GET /applications, written incrementally from a forward-only database cursor
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamAllApplications() {
+        StreamingResponseBody body = applicationService::streamAllApplications;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @PutMapping
     public ResponseEntity<?> updateApplicationStatus(@RequestBody Map<String, String> request) {
         try {
@@ -0,0 +1,133 @@
+package com.arbeit.backend.controller;
+
+import com.arbeit.backend.dto.ApplicationSummary;
+import com.arbeit.backend.dto.BulkStatusUpdateRequest;
+import com.arbeit.backend.dto.CompanyFunnel;
+import com.arbeit.backend.dto.CursorPage;
+import com.arbeit.backend.security.JwtUtils;
+import com.arbeit.backend.service.ApplicationService;
+import com.arbeit.backend.service.ApplicationStatsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/business/applications")
+@CrossOrigin(origins = "*", allowedHeaders = "*")
+public class BusinessApplicationController {
+
+    private final ApplicationService applicationService;
+    private final ApplicationStatsService applicationStatsService;
+    private final JwtUtils jwtUtils;
+
+    public BusinessApplicationController(ApplicationService applicationService,
+                                         ApplicationStatsService applicationStatsService, JwtUtils jwtUtils) {
+        this.applicationService = applicationService;
+        this.applicationStatsService = applicationStatsService;
+        this.jwtUtils = jwtUtils;
+    }
+
+    // The company's application inbox, newest first; appliedFrom and appliedTo are inclusive dates
+    @GetMapping
+    public ResponseEntity<?> getInbox(@RequestParam(required = false) String jobId,
+                                      @RequestParam(required = false) String status,
+                                      @RequestParam(required = false) Integer minRating,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedFrom,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate appliedTo,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer limit,
+                                      @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String companyEmail = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"business".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            CursorPage<ApplicationSummary> page = applicationService.getCompanyInbox(companyEmail, jobId, status,
+                    minRating,
+                    appliedFrom != null ? appliedFrom.atStartOfDay() : null,
+                    appliedTo != null ? appliedTo.plusDays(1).atStartOfDay() : null,
+                    cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch applications"));
+        }
+    }
+
+    // Applications per status for each of the company's jobs, plus company-wide totals
+    @GetMapping("/funnel")
+    public ResponseEntity<?> getFunnel(@CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String companyEmail = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"business".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            CompanyFunnel funnel = applicationStatsService.getCompanyFunnel(companyEmail);
+            return ResponseEntity.ok(funnel);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch application funnel"));
+        }
+    }
+
+    // Moves many of the company's applications to one status; the response lists the outcome for every id
+    @PutMapping("/bulk")
+    public ResponseEntity<?> updateApplicationStatuses(@RequestBody BulkStatusUpdateRequest request,
+                                                       @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String companyEmail = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"business".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            if (request.getIds() == null || request.getIds().isEmpty() || request.getStatus() == null) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "Application IDs and status are required"));
+            }
+
+            Map<Long, String> results = applicationService.updateApplicationStatuses(companyEmail, request.getIds(),
+                    request.getStatus());
+            long updated = results.values().stream().filter("Updated"::equals).count();
+            return ResponseEntity.ok(Map.of("status", request.getStatus(), "updated", updated, "results", results));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to update application status"));
+        }
+    }
+}
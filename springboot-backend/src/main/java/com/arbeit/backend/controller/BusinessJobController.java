@@ -1,12 +1,22 @@
 package com.arbeit.backend.controller;
 
+import com.arbeit.backend.analytics.JobViewService;
+import com.arbeit.backend.cache.CatalogVersions;
+import com.arbeit.backend.dto.CursorPage;
+import com.arbeit.backend.dto.DuplicateJob;
 import com.arbeit.backend.dto.JobDTO;
+import com.arbeit.backend.dto.JobSummary;
+import com.arbeit.backend.dto.ListView;
+import com.arbeit.backend.model.Application;
 import com.arbeit.backend.model.Job;
+import com.arbeit.backend.search.JobDedupService;
+import com.arbeit.backend.service.ApplicantRankingService;
 import com.arbeit.backend.service.JobService;
 import com.arbeit.backend.security.JwtUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -19,14 +29,26 @@ public class BusinessJobController {
 
     private final JobService jobService;
     private final JwtUtils jwtUtils;
+    private final CatalogVersions catalogVersions;
+    private final ApplicantRankingService applicantRankingService;
+    private final JobDedupService jobDedupService;
+    private final JobViewService jobViewService;
 
-    public BusinessJobController(JobService jobService, JwtUtils jwtUtils) {
+    public BusinessJobController(JobService jobService, JwtUtils jwtUtils, CatalogVersions catalogVersions,
+                                 ApplicantRankingService applicantRankingService, JobDedupService jobDedupService,
+                                 JobViewService jobViewService) {
         this.jobService = jobService;
         this.jwtUtils = jwtUtils;
+        this.catalogVersions = catalogVersions;
+        this.applicantRankingService = applicantRankingService;
+        this.jobDedupService = jobDedupService;
+        this.jobViewService = jobViewService;
     }
 
     @GetMapping
-    public ResponseEntity<?> getCompanyJobs(@CookieValue(value = "accessToken", required = false) String accessToken) {
+    public ResponseEntity<?> getCompanyJobs(@CookieValue(value = "accessToken", required = false) String accessToken,
+                                            @RequestParam(required = false) String view,
+                                            WebRequest request) {
         try {
             if (accessToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -41,14 +63,96 @@ public class BusinessJobController {
                         .body(Map.of("error", "Unauthorized"));
             }
 
+            // Unchanged since the client's copy: answer 304 after one aggregate query instead of loading the jobs
+            String eTag = catalogVersions.companyETag(companyEmail);
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+
+            // View counts come from job_view_stats, which the company ETag covers
+            if (ListView.parse(view) == ListView.SUMMARY) {
+                List<JobSummary> summaries = jobService.getCompanyJobSummaries(companyEmail);
+                Map<String, Long> views = jobViewService.totalViews(summaries.stream().map(JobSummary::jobId).toList());
+                List<JobSummary> jobs = summaries.stream()
+                        .map(summary -> summary.withViews(views.get(summary.jobId())))
+                        .toList();
+                return ResponseEntity.ok().eTag(eTag).body(jobs);
+            }
+
             List<Job> jobs = jobService.getCompanyJobs(companyEmail);
-            return ResponseEntity.ok(jobs);
+            Map<String, Long> views = jobViewService.totalViews(jobs.stream().map(Job::getJobId).toList());
+            jobs.forEach(job -> job.setViews(views.get(job.getJobId())));
+            return ResponseEntity.ok().eTag(eTag).body(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to fetch company jobs"));
         }
     }
 
+    // Applicants for one of the company's jobs, best match first
+    @GetMapping("/applicants")
+    public ResponseEntity<?> getRankedApplicants(@RequestParam String jobId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String companyEmail = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"business".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            Optional<CursorPage<Application>> page =
+                    applicantRankingService.getRankedApplicants(jobId, companyEmail, cursor, limit);
+            if (page.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Job not found"));
+            }
+
+            return ResponseEntity.ok(page.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch applicants"));
+        }
+    }
+
+    // Clusters of near-identical postings among the company's active jobs
+    @GetMapping("/duplicates")
+    public ResponseEntity<?> getDuplicateJobs(@CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String companyEmail = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"business".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            return ResponseEntity.ok(Map.of("clusters", jobDedupService.findDuplicateClusters(companyEmail)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to scan for duplicate jobs"));
+        }
+    }
+
     @PostMapping
     public ResponseEntity<?> createJob(@RequestBody JobDTO jobDTO,
                                       @CookieValue(value = "accessToken", required = false) String accessToken) {
@@ -67,8 +171,11 @@ public class BusinessJobController {
             }
 
             Job createdJob = jobService.createJob(jobDTO, companyEmail);
+            // The posting is accepted either way; near-copies of the company's live jobs are flagged back
+            List<DuplicateJob> duplicates = jobDedupService.findDuplicates(createdJob);
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(Map.of("message", "Job posted successfully", "jobId", createdJob.getJobId()));
+                    .body(Map.of("message", "Job posted successfully", "jobId", createdJob.getJobId(),
+                            "possibleDuplicates", duplicates));
         } catch (RuntimeException e) {
             return ResponseEntity.badRequest()
                     .body(Map.of("error", e.getMessage()));
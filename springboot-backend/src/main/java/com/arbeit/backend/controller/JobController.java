@@ -1,13 +1,31 @@
 package com.arbeit.backend.controller;
 
+import com.arbeit.backend.analytics.JobTrendingService;
+import com.arbeit.backend.analytics.JobViewService;
+import com.arbeit.backend.cache.CatalogVersions;
+import com.arbeit.backend.cache.JobJsonCache;
+import com.arbeit.backend.dto.CursorPage;
 import com.arbeit.backend.dto.JobDTO;
+import com.arbeit.backend.dto.ListView;
 import com.arbeit.backend.model.Job;
+import com.arbeit.backend.search.JobFacetService;
+import com.arbeit.backend.search.JobFilter;
+import com.arbeit.backend.search.JobGeoService;
+import com.arbeit.backend.search.JobSearchService;
+import com.arbeit.backend.search.JobSuggestService;
 import com.arbeit.backend.service.JobService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -17,23 +35,169 @@ import java.util.Optional;
 public class JobController {
 
     private final JobService jobService;
+    private final JobSearchService jobSearchService;
+    private final JobFacetService jobFacetService;
+    private final JobGeoService jobGeoService;
+    private final JobSuggestService jobSuggestService;
+    private final CatalogVersions catalogVersions;
+    private final JobViewService jobViewService;
+    private final JobTrendingService jobTrendingService;
 
-    public JobController(JobService jobService) {
+    public JobController(JobService jobService, JobSearchService jobSearchService, JobFacetService jobFacetService,
+                         JobGeoService jobGeoService, JobSuggestService jobSuggestService,
+                         CatalogVersions catalogVersions, JobViewService jobViewService,
+                         JobTrendingService jobTrendingService) {
         this.jobService = jobService;
+        this.jobSearchService = jobSearchService;
+        this.jobFacetService = jobFacetService;
+        this.jobGeoService = jobGeoService;
+        this.jobSuggestService = jobSuggestService;
+        this.catalogVersions = catalogVersions;
+        this.jobViewService = jobViewService;
+        this.jobTrendingService = jobTrendingService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Job>> getAllJobs() {
+    public ResponseEntity<?> getAllJobs(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(required = false) String view,
+                                        WebRequest request) {
         try {
-            List<Job> jobs = jobService.getAllActiveJobs();
-            return ResponseEntity.ok(jobs);
+            ListView listView = ListView.parse(view);
+
+            // Read the version before the data so a concurrent change can only make the tag stale, never wrong
+            String eTag = catalogVersions.catalogETag();
+            if (request.checkNotModified(eTag)) {
+                return null;
+            }
+
+            // Keyset-paginated listing when the client asks for a page, full list otherwise
+            if (cursor != null || limit != null) {
+                CursorPage<?> page = listView == ListView.SUMMARY
+                        ? jobService.getActiveJobSummariesPage(cursor, limit)
+                        : jobService.getActiveJobsPage(cursor, limit);
+                return ResponseEntity.ok().eTag(eTag).body(page);
+            }
+
+            List<?> jobs = listView == ListView.SUMMARY
+                    ? jobService.getActiveJobSummaries(eTag)
+                    : jobService.getAllActiveJobs(eTag);
+            return ResponseEntity.ok().eTag(eTag).body(jobs);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // Same payload as GET /jobs, written row by row from a database cursor with constant heap usage
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamJobs(WebRequest request) {
+        String eTag = catalogVersions.catalogETag();
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        StreamingResponseBody body = jobService::streamActiveJobs;
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(@RequestParam("q") String query,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            if (query.trim().isEmpty()) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "q is required"));
+            }
+
+            return ResponseEntity.ok(jobSearchService.search(query, limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to search jobs"));
+        }
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<?> suggest(@RequestParam String prefix,
+                                     @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(jobSuggestService.suggest(prefix, limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch suggestions"));
+        }
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<?> getTrendingJobs(@RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(jobTrendingService.getTrending(limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch trending jobs"));
+        }
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterJobs(@RequestParam MultiValueMap<String, String> params,
+                                        @RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer limit) {
+        try {
+            JobFilter filter = JobFilter.fromParams(params);
+            return ResponseEntity.ok(jobFacetService.filter(filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to filter jobs"));
+        }
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyJobs(@RequestParam(required = false) Double lat,
+                                           @RequestParam(required = false) Double lon,
+                                           @RequestParam(required = false) String city,
+                                           @RequestParam(required = false) String state,
+                                           @RequestParam(required = false) String country,
+                                           @RequestParam(required = false) Double radiusKm,
+                                           @RequestParam(required = false) Double minLat,
+                                           @RequestParam(required = false) Double minLon,
+                                           @RequestParam(required = false) Double maxLat,
+                                           @RequestParam(required = false) Double maxLon,
+                                           @RequestParam(defaultValue = "false") boolean includeRemote,
+                                           @RequestParam(required = false) Integer limit) {
+        try {
+            // Bounding box when all four corners are given, radius search otherwise
+            if (minLat != null && minLon != null && maxLat != null && maxLon != null) {
+                return ResponseEntity.ok(jobGeoService.withinBox(minLat, minLon, maxLat, maxLon, includeRemote, limit));
+            }
+
+            if ((lat == null || lon == null) && (city == null || city.trim().isEmpty())) {
+                return ResponseEntity.badRequest()
+                        .body(Map.of("error", "lat/lon, city or a bounding box is required"));
+            }
+
+            return ResponseEntity.ok(jobGeoService.withinRadius(lat, lon, city, state, country, radiusKm, includeRemote, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch nearby jobs"));
+        }
+    }
+
     @PostMapping
-    public ResponseEntity<?> getJobById(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> getJobById(@RequestBody Map<String, String> request,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                        String acceptEncoding,
+                                        HttpServletRequest httpRequest) {
         try {
             String jobId = request.get("jobId");
             if (jobId == null || jobId.trim().isEmpty()) {
@@ -41,16 +205,67 @@ public class JobController {
                         .body(Map.of("error", "jobId is required"));
             }
 
-            Optional<Job> jobOpt = jobService.getJobById(jobId);
+            Optional<JobJsonCache.SerializedJob> jobOpt = jobService.getSerializedJob(jobId);
             if (jobOpt.isEmpty()) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(Map.of("error", "Job not found"));
             }
 
-            return ResponseEntity.ok(jobOpt.get());
+            jobViewService.recordView(jobId, JobTrendingService.visitorHash(visitorKey(httpRequest)));
+
+            // Pre-rendered bytes go out as-is; gzip only when the client accepts it
+            JobJsonCache.SerializedJob job = jobOpt.get();
+            boolean gzip = job.hasGzip() && acceptsGzip(acceptEncoding);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(gzip ? job.getGzip() : job.getJson());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "Failed to fetch job"));
         }
     }
+
+    // Approximate viewer identity for unique counts: first forwarded address (or the peer) plus user agent
+    private static String visitorKey(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        String address = forwardedFor != null && !forwardedFor.isBlank()
+                ? forwardedFor.split(",")[0].trim()
+                : request.getRemoteAddr();
+        return address + "|" + request.getHeader(HttpHeaders.USER_AGENT);
+    }
+
+    // Honours q-values, so "gzip;q=0" opts out even when "*" is listed
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean accepted = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (!name.equals("gzip") && !name.equals("*")) {
+                continue;
+            }
+            boolean allowed = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        allowed = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        allowed = false;
+                    }
+                }
+            }
+            if (name.equals("gzip")) {
+                return allowed;
+            }
+            accepted = allowed;
+        }
+        return accepted;
+    }
 }
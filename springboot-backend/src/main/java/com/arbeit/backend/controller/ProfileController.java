@@ -1,13 +1,18 @@
 package com.arbeit.backend.controller;
 
+import com.arbeit.backend.dto.SavedSearchDTO;
 import com.arbeit.backend.dto.UserProfileDTO;
+import com.arbeit.backend.model.SavedSearch;
 import com.arbeit.backend.model.User;
+import com.arbeit.backend.search.JobRecommendationService;
+import com.arbeit.backend.search.SavedSearchService;
 import com.arbeit.backend.service.ProfileService;
 import com.arbeit.backend.security.JwtUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -18,10 +23,16 @@ public class ProfileController {
 
     private final ProfileService profileService;
     private final JwtUtils jwtUtils;
+    private final JobRecommendationService jobRecommendationService;
+    private final SavedSearchService savedSearchService;
 
-    public ProfileController(ProfileService profileService, JwtUtils jwtUtils) {
+    public ProfileController(ProfileService profileService, JwtUtils jwtUtils,
+                             JobRecommendationService jobRecommendationService,
+                             SavedSearchService savedSearchService) {
         this.profileService = profileService;
         this.jwtUtils = jwtUtils;
+        this.jobRecommendationService = jobRecommendationService;
+        this.savedSearchService = savedSearchService;
     }
 
     @GetMapping
@@ -90,4 +101,166 @@ public class ProfileController {
                     .body(Map.of("error", "Failed to update profile"));
         }
     }
+
+    @GetMapping("/recommendations")
+    public ResponseEntity<?> getRecommendations(@RequestParam(required = false) Integer limit,
+                                                @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            Optional<User> userOpt = profileService.getUserProfile(email);
+            if (userOpt.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "User not found"));
+            }
+
+            List<String> skills = userOpt.get().getSkills() != null ? userOpt.get().getSkills() : List.of();
+            return ResponseEntity.ok(jobRecommendationService.recommend(skills, limit));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch recommendations"));
+        }
+    }
+
+    @GetMapping("/searches")
+    public ResponseEntity<?> getSavedSearches(@CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            return ResponseEntity.ok(savedSearchService.getSavedSearches(email));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch saved searches"));
+        }
+    }
+
+    @PostMapping("/searches")
+    public ResponseEntity<?> createSavedSearch(@RequestBody SavedSearchDTO savedSearchDTO,
+                                               @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            SavedSearch savedSearch = savedSearchService.createSavedSearch(email, savedSearchDTO);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(Map.of("message", "Search saved successfully", "search", savedSearch));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to save search"));
+        }
+    }
+
+    @DeleteMapping("/searches")
+    public ResponseEntity<?> deleteSavedSearch(@RequestParam Long id,
+                                               @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            if (!savedSearchService.deleteSavedSearch(id, email)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Saved search not found"));
+            }
+
+            return ResponseEntity.ok(Map.of("message", "Saved search deleted successfully"));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to delete saved search"));
+        }
+    }
+
+    @GetMapping("/alerts")
+    public ResponseEntity<?> getAlerts(@RequestParam(required = false) Integer limit,
+                                       @CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            return ResponseEntity.ok(Map.of(
+                    "unseen", savedSearchService.countUnseenAlerts(email),
+                    "alerts", savedSearchService.getAlerts(email, limit)));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to fetch alerts"));
+        }
+    }
+
+    @PutMapping("/alerts/seen")
+    public ResponseEntity<?> markAlertsSeen(@CookieValue(value = "accessToken", required = false) String accessToken) {
+        try {
+            if (accessToken == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            String email = jwtUtils.getUsernameFromToken(accessToken);
+            String role = jwtUtils.getRoleFromToken(accessToken);
+
+            if (!"user".equals(role)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(Map.of("error", "Unauthorized"));
+            }
+
+            int updated = savedSearchService.markAlertsSeen(email);
+            return ResponseEntity.ok(Map.of("message", "Alerts marked as seen", "updated", updated));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "Failed to update alerts"));
+        }
+    }
 }
@@ -2,33 +2,45 @@ package com.arbeit.backend.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springframework.web.multipart.MultipartFile;
 
 public class ApplicationDTO {
 
     @NotBlank(message = "Job ID is required")
+    @Size(max = 255, message = "jobId must be at most 255 characters")
     private String jobId;
 
     @NotBlank(message = "Full name is required")
+    @Size(max = 255, message = "fullName must be at most 255 characters")
     private String fullName;
 
     @Email(message = "Invalid email format")
     @NotBlank(message = "Email is required")
+    @Size(max = 255, message = "email must be at most 255 characters")
     private String email;
 
+    @Size(max = 255, message = "phone must be at most 255 characters")
     private String phone;
 
     @NotBlank(message = "Cover letter is required")
+    @Size(max = 255, message = "coverLetter must be at most 255 characters")
     private String coverLetter;
 
     private MultipartFile resume; // Resume file upload
 
     // Additional fields that might be collected
+    @Size(max = 255, message = "experience must be at most 255 characters")
     private String experience;
+    @Size(max = 255, message = "currentCompany must be at most 255 characters")
     private String currentCompany;
+    @Size(max = 255, message = "currentJobTitle must be at most 255 characters")
     private String currentJobTitle;
+    @Size(max = 255, message = "education must be at most 255 characters")
     private String education;
+    @Size(max = 255, message = "linkedinUrl must be at most 255 characters")
     private String linkedinUrl;
+    @Size(max = 255, message = "portfolioUrl must be at most 255 characters")
     private String portfolioUrl;
 
     // Constructors
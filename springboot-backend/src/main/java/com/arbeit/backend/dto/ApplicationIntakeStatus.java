@@ -0,0 +1,57 @@
+package com.arbeit.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ApplicationIntakeStatus {
+
+    public static final String QUEUED = "Queued";
+    public static final String ACCEPTED = "Accepted";
+    public static final String REJECTED = "Rejected";
+
+    private String trackingId;
+    private String status; // Queued, Accepted, Rejected
+    private String userId; // Application id, set once accepted
+    private String message; // Reason when rejected
+
+    public ApplicationIntakeStatus() {}
+
+    public ApplicationIntakeStatus(String trackingId, String status, String userId, String message) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.userId = userId;
+        this.message = message;
+    }
+
+    public String getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(String trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public void setUserId(String userId) {
+        this.userId = userId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.arbeit.backend.dto;
+
+import java.time.LocalDateTime;
+
+// Narrow row for list views: leaves out the cover letter, reviewer notes and resume payload fields.
+// Populated directly by JPQL constructor expressions in ApplicationRepository.
+public record ApplicationSummary(
+        Long id,
+        String userId,
+        String jobId,
+        String fullName,
+        String email,
+        String status,
+        String currentJobTitle,
+        String currentCompany,
+        String experience,
+        Integer rating,
+        LocalDateTime appliedDate,
+        LocalDateTime updatedDate) {
+}
@@ -0,0 +1,27 @@
+package com.arbeit.backend.dto;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+
+    private List<Long> ids; // Application ids
+    private String status; // Target status, applied to every id
+
+    public BulkStatusUpdateRequest() {}
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
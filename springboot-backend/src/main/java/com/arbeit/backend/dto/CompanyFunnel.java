@@ -0,0 +1,43 @@
+package com.arbeit.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class CompanyFunnel {
+
+    private Map<String, Long> counts; // Applications per status across all of the company's jobs
+    private long total;
+    private List<JobFunnel> jobs;
+
+    public CompanyFunnel() {}
+
+    public CompanyFunnel(Map<String, Long> counts, long total, List<JobFunnel> jobs) {
+        this.counts = counts;
+        this.total = total;
+        this.jobs = jobs;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Long> counts) {
+        this.counts = counts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<JobFunnel> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<JobFunnel> jobs) {
+        this.jobs = jobs;
+    }
+}
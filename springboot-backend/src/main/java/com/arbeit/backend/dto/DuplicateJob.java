@@ -0,0 +1,52 @@
+package com.arbeit.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class DuplicateJob {
+
+    private String jobId;
+    private String title;
+    private LocalDateTime postedDate;
+    private double similarity; // Estimated Jaccard similarity of the posting texts, 0-1
+
+    public DuplicateJob() {}
+
+    public DuplicateJob(String jobId, String title, LocalDateTime postedDate, double similarity) {
+        this.jobId = jobId;
+        this.title = title;
+        this.postedDate = postedDate;
+        this.similarity = similarity;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getPostedDate() {
+        return postedDate;
+    }
+
+    public void setPostedDate(LocalDateTime postedDate) {
+        this.postedDate = postedDate;
+    }
+
+    public double getSimilarity() {
+        return similarity;
+    }
+
+    public void setSimilarity(double similarity) {
+        this.similarity = similarity;
+    }
+}
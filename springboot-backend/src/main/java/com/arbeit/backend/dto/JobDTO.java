@@ -3,6 +3,7 @@ package com.arbeit.backend.dto;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public class JobDTO {
@@ -43,6 +44,10 @@ public class JobDTO {
     private String hiringProcess;
     private String applicationInstructions;
 
+    // Lifecycle
+    private LocalDateTime closingDate;
+    private LocalDateTime publishDate; // In the future, the job is saved as a Draft until then
+
     // Constructors
     public JobDTO() {}
 
@@ -222,4 +227,20 @@ public class JobDTO {
     public void setApplicationInstructions(String applicationInstructions) {
         this.applicationInstructions = applicationInstructions;
     }
+
+    public LocalDateTime getClosingDate() {
+        return closingDate;
+    }
+
+    public void setClosingDate(LocalDateTime closingDate) {
+        this.closingDate = closingDate;
+    }
+
+    public LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    public void setPublishDate(LocalDateTime publishDate) {
+        this.publishDate = publishDate;
+    }
 }
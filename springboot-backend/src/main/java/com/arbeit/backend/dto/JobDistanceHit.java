@@ -0,0 +1,32 @@
+package com.arbeit.backend.dto;
+
+import com.arbeit.backend.model.Job;
+
+public class JobDistanceHit {
+
+    private Job job;
+    private Double distanceKm; // null for remote jobs merged into the result
+
+    public JobDistanceHit() {}
+
+    public JobDistanceHit(Job job, Double distanceKm) {
+        this.job = job;
+        this.distanceKm = distanceKm;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public Double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(Double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,55 @@
+package com.arbeit.backend.dto;
+
+import com.arbeit.backend.model.Job;
+
+import java.util.List;
+import java.util.Map;
+
+public class JobFilterResponse {
+
+    private long total;
+    private List<Job> jobs;
+    private Map<String, Map<String, Long>> facets; // facet field -> value -> matching job count
+    private String nextCursor;
+
+    public JobFilterResponse() {}
+
+    public JobFilterResponse(long total, List<Job> jobs, Map<String, Map<String, Long>> facets, String nextCursor) {
+        this.total = total;
+        this.jobs = jobs;
+        this.facets = facets;
+        this.nextCursor = nextCursor;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<Job> jobs) {
+        this.jobs = jobs;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,62 @@
+package com.arbeit.backend.dto;
+
+import java.util.Map;
+
+public class JobFunnel {
+
+    private String jobId;
+    private String title;
+    private String jobStatus;
+    private Map<String, Long> counts; // Applications per application status, every funnel stage present
+    private long total;
+
+    public JobFunnel() {}
+
+    public JobFunnel(String jobId, String title, String jobStatus, Map<String, Long> counts, long total) {
+        this.jobId = jobId;
+        this.title = title;
+        this.jobStatus = jobStatus;
+        this.counts = counts;
+        this.total = total;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getJobStatus() {
+        return jobStatus;
+    }
+
+    public void setJobStatus(String jobStatus) {
+        this.jobStatus = jobStatus;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Map<String, Long> counts) {
+        this.counts = counts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
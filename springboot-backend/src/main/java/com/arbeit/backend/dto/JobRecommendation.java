@@ -0,0 +1,44 @@
+package com.arbeit.backend.dto;
+
+import com.arbeit.backend.model.Job;
+
+import java.util.List;
+
+public class JobRecommendation {
+
+    private Job job;
+    private double score;
+    private List<String> matchedSkills;
+
+    public JobRecommendation() {}
+
+    public JobRecommendation(Job job, double score, List<String> matchedSkills) {
+        this.job = job;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+}
@@ -0,0 +1,32 @@
+package com.arbeit.backend.dto;
+
+import com.arbeit.backend.model.Job;
+
+public class JobSearchHit {
+
+    private Job job;
+    private double score;
+
+    public JobSearchHit() {}
+
+    public JobSearchHit(Job job, double score) {
+        this.job = job;
+        this.score = score;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
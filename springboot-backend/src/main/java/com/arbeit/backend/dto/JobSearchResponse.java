@@ -0,0 +1,56 @@
+package com.arbeit.backend.dto;
+
+import java.util.List;
+
+public class JobSearchResponse {
+
+    private String query;
+    private int totalHits;
+    private List<JobSearchHit> hits;
+    private String didYouMean; // Corrected query when some terms were unknown, otherwise null
+
+    public JobSearchResponse() {}
+
+    public JobSearchResponse(String query, int totalHits, List<JobSearchHit> hits) {
+        this(query, totalHits, hits, null);
+    }
+
+    public JobSearchResponse(String query, int totalHits, List<JobSearchHit> hits, String didYouMean) {
+        this.query = query;
+        this.totalHits = totalHits;
+        this.hits = hits;
+        this.didYouMean = didYouMean;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(int totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public List<JobSearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<JobSearchHit> hits) {
+        this.hits = hits;
+    }
+
+    public String getDidYouMean() {
+        return didYouMean;
+    }
+
+    public void setDidYouMean(String didYouMean) {
+        this.didYouMean = didYouMean;
+    }
+}
@@ -0,0 +1,40 @@
+package com.arbeit.backend.dto;
+
+public class JobSuggestion {
+
+    private String text;
+    private String type; // title, skill or company
+    private long weight;
+
+    public JobSuggestion() {}
+
+    public JobSuggestion(String text, String type, long weight) {
+        this.text = text;
+        this.type = type;
+        this.weight = weight;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+}
@@ -0,0 +1,48 @@
+package com.arbeit.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// Narrow row for list views: no description/requirements/benefits or other long text columns.
+// Populated directly by JPQL constructor expressions in JobRepository.
+public record JobSummary(
+        Long id,
+        String jobId,
+        String title,
+        String companyName,
+        String businessName,
+        String location,
+        String city,
+        String state,
+        String country,
+        boolean remoteWork,
+        String jobType,
+        String department,
+        Double salaryMin,
+        Double salaryMax,
+        String salaryCurrency,
+        boolean hideSalary,
+        String status,
+        int applicants,
+        LocalDateTime postedDate,
+        LocalDateTime closingDate,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long views) {
+
+    // JPQL constructor expressions in JobRepository; views is not a column and is attached afterwards
+    public JobSummary(Long id, String jobId, String title, String companyName, String businessName, String location,
+                      String city, String state, String country, boolean remoteWork, String jobType,
+                      String department, Double salaryMin, Double salaryMax, String salaryCurrency,
+                      boolean hideSalary, String status, int applicants, LocalDateTime postedDate,
+                      LocalDateTime closingDate) {
+        this(id, jobId, title, companyName, businessName, location, city, state, country, remoteWork, jobType,
+                department, salaryMin, salaryMax, salaryCurrency, hideSalary, status, applicants, postedDate,
+                closingDate, null);
+    }
+
+    public JobSummary withViews(Long views) {
+        return new JobSummary(id, jobId, title, companyName, businessName, location, city, state, country,
+                remoteWork, jobType, department, salaryMin, salaryMax, salaryCurrency, hideSalary, status,
+                applicants, postedDate, closingDate, views);
+    }
+}
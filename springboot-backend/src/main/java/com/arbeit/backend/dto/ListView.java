@@ -0,0 +1,20 @@
+package com.arbeit.backend.dto;
+
+import java.util.Locale;
+
+// Shape of list responses selected with ?view=; full entities stay the default for existing clients
+public enum ListView {
+    FULL,
+    SUMMARY;
+
+    public static ListView parse(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("view must be 'full' or 'summary'");
+        }
+    }
+}
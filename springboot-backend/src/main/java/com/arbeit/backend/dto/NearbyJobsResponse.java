@@ -0,0 +1,62 @@
+package com.arbeit.backend.dto;
+
+import java.util.List;
+
+public class NearbyJobsResponse {
+
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private int total;
+    private List<JobDistanceHit> hits;
+
+    public NearbyJobsResponse() {}
+
+    public NearbyJobsResponse(Double latitude, Double longitude, Double radiusKm, int total, List<JobDistanceHit> hits) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusKm = radiusKm;
+        this.total = total;
+        this.hits = hits;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getRadiusKm() {
+        return radiusKm;
+    }
+
+    public void setRadiusKm(Double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public List<JobDistanceHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<JobDistanceHit> hits) {
+        this.hits = hits;
+    }
+}
@@ -0,0 +1,55 @@
+package com.arbeit.backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class SavedSearchDTO {
+
+    private String name;
+    private String keywords;
+    private Map<String, List<String>> facets; // Same fields as GET /jobs/filter, e.g. {"city": ["Berlin"]}
+    private Double salaryFrom;
+    private Double salaryTo;
+
+    public SavedSearchDTO() {}
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(String keywords) {
+        this.keywords = keywords;
+    }
+
+    public Map<String, List<String>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, List<String>> facets) {
+        this.facets = facets;
+    }
+
+    public Double getSalaryFrom() {
+        return salaryFrom;
+    }
+
+    public void setSalaryFrom(Double salaryFrom) {
+        this.salaryFrom = salaryFrom;
+    }
+
+    public Double getSalaryTo() {
+        return salaryTo;
+    }
+
+    public void setSalaryTo(Double salaryTo) {
+        this.salaryTo = salaryTo;
+    }
+}
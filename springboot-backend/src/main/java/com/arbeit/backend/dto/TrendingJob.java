@@ -0,0 +1,42 @@
+package com.arbeit.backend.dto;
+
+import com.arbeit.backend.model.Job;
+
+public class TrendingJob {
+
+    private Job job;
+    private double score; // Decayed activity (views and applications) plus a bonus per unique viewer
+    private long uniqueViewers; // Estimated distinct viewers over the last one to two half-lives
+
+    public TrendingJob() {}
+
+    public TrendingJob(Job job, double score, long uniqueViewers) {
+        this.job = job;
+        this.score = score;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public void setJob(Job job) {
+        this.job = job;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public long getUniqueViewers() {
+        return uniqueViewers;
+    }
+
+    public void setUniqueViewers(long uniqueViewers) {
+        this.uniqueViewers = uniqueViewers;
+    }
+}
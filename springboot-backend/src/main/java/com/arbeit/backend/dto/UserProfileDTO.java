@@ -1,5 +1,7 @@
 package com.arbeit.backend.dto;
 
+import java.util.List;
+
 public class UserProfileDTO {
 
     private String firstName;
@@ -15,6 +17,7 @@ public class UserProfileDTO {
     private String currentJobTitle;
     private String currentCompany;
     private String experience;
+    private List<String> skills;
     private String education;
     private String linkedinUrl;
     private String githubUrl;
@@ -112,6 +115,14 @@ public class UserProfileDTO {
         this.experience = experience;
     }
 
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
     public String getEducation() {
         return education;
     }
@@ -0,0 +1,17 @@
+package com.arbeit.backend.event;
+
+import com.arbeit.backend.model.Company;
+
+// Published after a company has been registered or its profile written so in-memory indexes can follow along
+public class CompanyChangedEvent {
+
+    private final Company company;
+
+    public CompanyChangedEvent(Company company) {
+        this.company = company;
+    }
+
+    public Company getCompany() {
+        return company;
+    }
+}
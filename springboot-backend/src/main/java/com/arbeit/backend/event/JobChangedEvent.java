@@ -0,0 +1,52 @@
+package com.arbeit.backend.event;
+
+import com.arbeit.backend.model.Job;
+
+// Published by JobService after a job has been written so in-memory indexes can follow along
+public class JobChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        APPLICANTS_CHANGED // Only the applicant counter moved; searchable content is unchanged
+    }
+
+    private final Type type;
+    private final Job job;
+    private final boolean scoringInputsChanged;
+
+    public JobChangedEvent(Type type, Job job) {
+        this(type, job, type == Type.CREATED);
+    }
+
+    public JobChangedEvent(Type type, Job job, boolean scoringInputsChanged) {
+        this.type = type;
+        this.job = job;
+        this.scoringInputsChanged = scoringInputsChanged;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    // True when the fields applicants are scored against changed (see ApplicantScorer.inputs); status-only
+    // moves such as scheduled publishes and closes leave it false
+    public boolean scoringInputsChanged() {
+        return scoringInputsChanged;
+    }
+
+    // False for counter-only updates, which the text and filter indexes can skip
+    public boolean affectsContent() {
+        return type != Type.APPLICANTS_CHANGED;
+    }
+
+    // True when the job should be visible in public listings after this change
+    public boolean isActive() {
+        return type != Type.DELETED && "Active".equals(job.getStatus());
+    }
+}
@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+        @Index(name = "idx_applications_job_score", columnList = "job_id, match_score, id"),
+        // Company inbox, keyset-paginated on (applied_date, id); see ApplicationRepository.findInboxPage
+        @Index(name = "idx_applications_company_applied", columnList = "company_email, applied_date, id"),
+        @Index(name = "idx_applications_company_status_applied", columnList = "company_email, status, applied_date, id"),
+        @Index(name = "idx_applications_job_applied", columnList = "job_id, applied_date, id"),
+        @Index(name = "idx_applications_job_status_applied", columnList = "job_id, status, applied_date, id")
+})
 public class Application {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -16,6 +23,8 @@ public class Application {
     @Column(nullable = false)
     private String jobId; // Job being applied for
 
+    private String companyEmail; // Copied from the job so a company's inbox is one index range
+
     // Applicant Information
     private String fullName;
     private String email;
@@ -46,6 +55,9 @@ public class Application {
     private String reviewerNotes;
     private Integer rating; // 1-5 rating from reviewer
 
+    // Precomputed fit against the job (0-100), refreshed on submit and whenever the job is edited
+    private Double matchScore;
+
     // Constructors
     public Application() {}
 
@@ -262,4 +274,20 @@ public class Application {
                 ", appliedDate=" + appliedDate +
                 '}';
     }
+
+    public String getCompanyEmail() {
+        return companyEmail;
+    }
+
+    public void setCompanyEmail(String companyEmail) {
+        this.companyEmail = companyEmail;
+    }
+
+    public Double getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(Double matchScore) {
+        this.matchScore = matchScore;
+    }
 }
@@ -0,0 +1,71 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+
+// Applications per job and status (the hiring funnel). Rows are upserted by ApplicationStatsService in the
+// same transaction as the application change, never through JPA.
+@Entity
+@Table(name = "application_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_application_stats_job_status", columnNames = {"job_id", "status"})
+}, indexes = {
+        @Index(name = "idx_application_stats_company", columnList = "company_email")
+})
+public class ApplicationStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    @Column(nullable = false)
+    private String status;
+
+    private String companyEmail;
+
+    private long applications;
+
+    // Constructors
+    public ApplicationStat() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCompanyEmail() {
+        return companyEmail;
+    }
+
+    public void setCompanyEmail(String companyEmail) {
+        this.companyEmail = companyEmail;
+    }
+
+    public long getApplications() {
+        return applications;
+    }
+
+    public void setApplications(long applications) {
+        this.applications = applications;
+    }
+}
@@ -0,0 +1,40 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+
+// One row per IdAllocator sequence; nextValue is the first value of the next block to lease
+@Entity
+@Table(name = "id_sequences")
+public class IdSequence {
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private long nextValue;
+
+    // Constructors
+    public IdSequence() {}
+
+    public IdSequence(String name, long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
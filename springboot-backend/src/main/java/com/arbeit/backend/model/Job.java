@@ -1,5 +1,6 @@
 package com.arbeit.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
@@ -7,7 +8,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status_posted_date", columnList = "status, posted_date, id"),
+        @Index(name = "idx_jobs_status_closing_date", columnList = "status, closing_date"),
+        @Index(name = "idx_jobs_status_publish_date", columnList = "status, publish_date")
+})
 public class Job {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +38,9 @@ public class Job {
     private String country;
     private boolean remoteWork; // Whether remote work is allowed
 
+    @Column(length = 12)
+    private String geohash; // Resolved from city/state/country via the bundled gazetteer
+
     // Job Details
     private String jobType; // Full-time, Part-time, Contract, Internship
     private String department;
@@ -58,12 +66,21 @@ public class Job {
 
     // Job Status
     private String status = "Active"; // Active, Inactive, Closed, Draft
-    private int applicants = 0; // Number of applicants
+    // Number of applicants; maintained by ApplicantCounter with relative SQL updates, so entity saves
+    // (job edits) never write back a stale value
+    @Column(updatable = false)
+    private int applicants = 0;
 
     // Timestamps
     private LocalDateTime postedDate;
     private LocalDateTime updatedDate;
-    private LocalDateTime closingDate;
+    private LocalDateTime closingDate; // Active jobs are closed by JobLifecycleScheduler once this passes
+    private LocalDateTime publishDate; // Draft jobs go live at this time
+
+    // Total recorded views, filled in for the owning company's listing only
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long views;
 
     // Constructors
     public Job() {}
@@ -165,6 +182,14 @@ public class Job {
         this.remoteWork = remoteWork;
     }
 
+    public String getGeohash() {
+        return geohash;
+    }
+
+    public void setGeohash(String geohash) {
+        this.geohash = geohash;
+    }
+
     public String getJobType() {
         return jobType;
     }
@@ -317,6 +342,22 @@ public class Job {
         this.closingDate = closingDate;
     }
 
+    public LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    public void setPublishDate(LocalDateTime publishDate) {
+        this.publishDate = publishDate;
+    }
+
+    public Long getViews() {
+        return views;
+    }
+
+    public void setViews(Long views) {
+        this.views = views;
+    }
+
     // Helper methods
     public String getCompany() {
         return businessName != null ? businessName : companyName;
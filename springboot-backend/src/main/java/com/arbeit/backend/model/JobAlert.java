@@ -0,0 +1,109 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "job_alerts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_alerts_search_job", columnNames = {"saved_search_id", "job_id"})
+}, indexes = {
+        @Index(name = "idx_job_alerts_user_email", columnList = "user_email, id")
+})
+public class JobAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userEmail;
+
+    @Column(nullable = false)
+    private Long savedSearchId;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    // Copied at match time so the inbox renders without loading every job
+    private String jobTitle;
+    private String companyName;
+
+    private boolean seen = false;
+    private LocalDateTime matchedDate;
+
+    // Constructors
+    public JobAlert() {}
+
+    public JobAlert(String userEmail, Long savedSearchId, Job job, LocalDateTime matchedDate) {
+        this.userEmail = userEmail;
+        this.savedSearchId = savedSearchId;
+        this.jobId = job.getJobId();
+        this.jobTitle = job.getTitle();
+        this.companyName = job.getCompanyName();
+        this.matchedDate = matchedDate;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public Long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(Long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public boolean isSeen() {
+        return seen;
+    }
+
+    public void setSeen(boolean seen) {
+        this.seen = seen;
+    }
+
+    public LocalDateTime getMatchedDate() {
+        return matchedDate;
+    }
+
+    public void setMatchedDate(LocalDateTime matchedDate) {
+        this.matchedDate = matchedDate;
+    }
+}
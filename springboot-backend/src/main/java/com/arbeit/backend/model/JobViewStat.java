@@ -0,0 +1,59 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Hourly view counts per job. Rows are upserted in batches by JobViewService, never through JPA.
+@Entity
+@Table(name = "job_view_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_view_stats_job_bucket", columnNames = {"job_id", "bucket_start"})
+})
+public class JobViewStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+
+    private long views;
+
+    // Constructors
+    public JobViewStat() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public void setBucketStart(LocalDateTime bucketStart) {
+        this.bucketStart = bucketStart;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+}
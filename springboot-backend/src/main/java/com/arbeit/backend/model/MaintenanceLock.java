@@ -0,0 +1,28 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+
+// One row per ClusterLock name; holding its row lock makes a maintenance job exclusive across instances
+@Entity
+@Table(name = "maintenance_locks")
+public class MaintenanceLock {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // Constructors
+    public MaintenanceLock() {}
+
+    public MaintenanceLock(String name) {
+        this.name = name;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,104 @@
+package com.arbeit.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@Table(name = "saved_searches", indexes = {
+        @Index(name = "idx_saved_searches_user_email", columnList = "user_email")
+})
+public class SavedSearch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String userEmail; // Candidate who owns the search and receives its alerts
+
+    private String name;
+    private String keywords; // Every term must appear in the job (title, skills, description, ...)
+
+    // "field:value" pairs over JobFilter.FACET_FIELDS; location is expressed through city/state/country/remoteWork
+    @Convert(converter = StringListConverter.class)
+    private List<String> facets;
+
+    private Double salaryFrom;
+    private Double salaryTo;
+
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public SavedSearch() {}
+
+    public SavedSearch(String userEmail, String name) {
+        this.userEmail = userEmail;
+        this.name = name;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public void setUserEmail(String userEmail) {
+        this.userEmail = userEmail;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKeywords() {
+        return keywords;
+    }
+
+    public void setKeywords(String keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(List<String> facets) {
+        this.facets = facets;
+    }
+
+    public Double getSalaryFrom() {
+        return salaryFrom;
+    }
+
+    public void setSalaryFrom(Double salaryFrom) {
+        this.salaryFrom = salaryFrom;
+    }
+
+    public Double getSalaryTo() {
+        return salaryTo;
+    }
+
+    public void setSalaryTo(Double salaryTo) {
+        this.salaryTo = salaryTo;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -34,6 +34,7 @@ public class User {
     private String currentJobTitle;
     private String currentCompany;
     private String experience; // e.g., "2-3 years"
+    @Convert(converter = StringListConverter.class)
     private List<String> skills;
     private String education;
     private String linkedinUrl;
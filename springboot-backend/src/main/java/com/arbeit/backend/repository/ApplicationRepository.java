@@ -1,11 +1,25 @@
 package com.arbeit.backend.repository;
 
+import com.arbeit.backend.dto.ApplicationSummary;
 import com.arbeit.backend.model.Application;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -20,9 +34,97 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
 
     List<Application> findAllByOrderByAppliedDateDesc();
 
+    // Narrow list columns only, see ApplicationSummary
+    @Query("SELECT new com.arbeit.backend.dto.ApplicationSummary(a.id, a.userId, a.jobId, a.fullName, a.email, " +
+           "a.status, a.currentJobTitle, a.currentCompany, a.experience, a.rating, a.appliedDate, a.updatedDate) " +
+           "FROM Application a ORDER BY a.appliedDate DESC")
+    List<ApplicationSummary> findAllSummaries();
+
+    // One page of a company's inbox, newest first. Filters left null are ignored; a null cursor starts at the top.
+    // Keyset-paginated on (appliedDate, id) over idx_applications_company_applied, or the status / job variants.
+    @Query("SELECT new com.arbeit.backend.dto.ApplicationSummary(a.id, a.userId, a.jobId, a.fullName, a.email, " +
+           "a.status, a.currentJobTitle, a.currentCompany, a.experience, a.rating, a.appliedDate, a.updatedDate) " +
+           "FROM Application a WHERE a.companyEmail = :companyEmail " +
+           "AND (:jobId IS NULL OR a.jobId = :jobId) " +
+           "AND (:status IS NULL OR a.status = :status) " +
+           "AND (:minRating IS NULL OR a.rating >= :minRating) " +
+           "AND (:appliedFrom IS NULL OR a.appliedDate >= :appliedFrom) " +
+           "AND (:appliedBefore IS NULL OR a.appliedDate < :appliedBefore) " +
+           "AND (:cursorDate IS NULL OR a.appliedDate < :cursorDate OR (a.appliedDate = :cursorDate AND a.id < :cursorId)) " +
+           "ORDER BY a.appliedDate DESC, a.id DESC")
+    List<ApplicationSummary> findInboxPage(@Param("companyEmail") String companyEmail,
+                                           @Param("jobId") String jobId,
+                                           @Param("status") String status,
+                                           @Param("minRating") Integer minRating,
+                                           @Param("appliedFrom") LocalDateTime appliedFrom,
+                                           @Param("appliedBefore") LocalDateTime appliedBefore,
+                                           @Param("cursorDate") LocalDateTime cursorDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    // Fills companyEmail on rows written before the column existed
+    @Transactional
+    @Modifying
+    @Query("UPDATE Application a SET a.companyEmail = " +
+           "(SELECT j.companyEmail FROM Job j WHERE j.jobId = a.jobId) WHERE a.companyEmail IS NULL")
+    int backfillCompanyEmails();
+
+    // Forward-only streaming cursor, see JobRepository.streamByStatusOrderByPostedDateDesc
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Application> streamAllByOrderByAppliedDateDesc();
+
+    // Ranked shortlist, keyset-paginated on (matchScore, id) and backed by idx_applications_job_score
+    List<Application> findByJobIdOrderByMatchScoreDescIdDesc(String jobId, Pageable pageable);
+
+    @Query("SELECT a FROM Application a WHERE a.jobId = :jobId " +
+           "AND (a.matchScore < :matchScore OR (a.matchScore = :matchScore AND a.id < :id)) " +
+           "ORDER BY a.matchScore DESC, a.id DESC")
+    List<Application> findByJobIdAfterScoreCursor(@Param("jobId") String jobId,
+                                                  @Param("matchScore") Double matchScore,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    List<Application> findByMatchScoreIsNull();
+
     boolean existsByUserIdAndJobId(String userId, String jobId);
 
+    @Query("SELECT a.userId FROM Application a WHERE a.userId IN :userIds")
+    List<String> findExistingUserIds(@Param("userIds") Collection<String> userIds);
+
     long countByJobId(String jobId);
 
+    // [jobId, applications] for every job with at least one application; used to reconcile Job.applicants
+    @Query("SELECT a.jobId, COUNT(a) FROM Application a GROUP BY a.jobId")
+    List<Object[]> countGroupByJobId();
+
     long countByStatus(String status);
+
+    // [id, job_id, company_email, status] of the given applications to the company, row-locked until the
+    // transaction ends
+    @Query(value = "SELECT id, job_id, company_email, status FROM applications " +
+                   "WHERE company_email = :companyEmail AND id IN (:ids) FOR UPDATE",
+           nativeQuery = true)
+    List<Object[]> lockStatusesByCompanyEmailAndIdIn(@Param("companyEmail") String companyEmail,
+                                                     @Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Application> findLockedById(Long id);
+
+    // [jobId, companyEmail, status, applications] recomputed from scratch, to verify the application_stats rows
+    @Query("SELECT a.jobId, j.companyEmail, a.status, COUNT(a) FROM Application a, Job j " +
+           "WHERE j.jobId = a.jobId AND a.status IS NOT NULL GROUP BY a.jobId, j.companyEmail, a.status")
+    List<Object[]> countGroupByJobIdAndStatus();
+
+    // Bulk form of ApplicationService.updateApplicationStatus: the first move to "Under Review" stamps reviewedDate
+    @Transactional
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.updatedDate = :now, " +
+           "a.reviewedDate = CASE WHEN a.reviewedDate IS NULL AND :status = 'Under Review' THEN :now ELSE a.reviewedDate END " +
+           "WHERE a.id IN :ids AND a.companyEmail = :companyEmail")
+    int updateStatuses(@Param("companyEmail") String companyEmail, @Param("ids") Collection<Long> ids,
+                       @Param("status") String status, @Param("now") LocalDateTime now);
 }
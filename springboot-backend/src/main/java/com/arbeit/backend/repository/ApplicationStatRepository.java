@@ -0,0 +1,21 @@
+package com.arbeit.backend.repository;
+
+import com.arbeit.backend.model.ApplicationStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ApplicationStatRepository extends JpaRepository<ApplicationStat, Long> {
+
+    // [jobId, status, applications] for every funnel row of the company, backed by idx_application_stats_company
+    @Query("SELECT s.jobId, s.status, s.applications FROM ApplicationStat s WHERE s.companyEmail = :companyEmail")
+    List<Object[]> findCountsByCompanyEmail(@Param("companyEmail") String companyEmail);
+
+    // [jobId, status, applications] for every row; compared against the applications table by the verifier
+    @Query("SELECT s.jobId, s.status, s.applications FROM ApplicationStat s")
+    List<Object[]> findAllCounts();
+}
@@ -0,0 +1,31 @@
+package com.arbeit.backend.repository;
+
+import com.arbeit.backend.model.JobAlert;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface JobAlertRepository extends JpaRepository<JobAlert, Long> {
+
+    // Inbox, newest first; backed by idx_job_alerts_user_email
+    List<JobAlert> findByUserEmailOrderByIdDesc(String userEmail, Pageable pageable);
+
+    long countByUserEmailAndSeenFalse(String userEmail);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobAlert a SET a.seen = true WHERE a.userEmail = :userEmail AND a.seen = false")
+    int markAllSeen(@Param("userEmail") String userEmail);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM JobAlert a WHERE a.savedSearchId = :savedSearchId")
+    int deleteBySavedSearchId(@Param("savedSearchId") Long savedSearchId);
+}
@@ -1,12 +1,23 @@
 package com.arbeit.backend.repository;
 
+import com.arbeit.backend.dto.JobSummary;
 import com.arbeit.backend.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
@@ -35,7 +46,72 @@ public interface JobRepository extends JpaRepository<Job, Long> {
         return findByStatusOrderByPostedDateDesc("Active");
     }
 
+    // Keyset pagination on (postedDate, id), backed by idx_jobs_status_posted_date
+    List<Job> findByStatusOrderByPostedDateDescIdDesc(String status, Pageable pageable);
+
+    @Query("SELECT j FROM Job j WHERE j.status = :status " +
+           "AND (j.postedDate < :postedDate OR (j.postedDate = :postedDate AND j.id < :id)) " +
+           "ORDER BY j.postedDate DESC, j.id DESC")
+    List<Job> findByStatusAfterCursor(@Param("status") String status,
+                                      @Param("postedDate") LocalDateTime postedDate,
+                                      @Param("id") Long id,
+                                      Pageable pageable);
+
+    // Summary projections select only the narrow list columns, see JobSummary
+    String SUMMARY_SELECT = "SELECT new com.arbeit.backend.dto.JobSummary(j.id, j.jobId, j.title, j.companyName, " +
+            "j.businessName, j.location, j.city, j.state, j.country, j.remoteWork, j.jobType, j.department, " +
+            "j.salaryMin, j.salaryMax, j.salaryCurrency, j.hideSalary, j.status, j.applicants, j.postedDate, " +
+            "j.closingDate) FROM Job j ";
+
+    @Query(SUMMARY_SELECT + "WHERE j.status = :status ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobSummary> findSummariesByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE j.status = :status " +
+           "AND (j.postedDate < :postedDate OR (j.postedDate = :postedDate AND j.id < :id)) " +
+           "ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobSummary> findSummariesByStatusAfterCursor(@Param("status") String status,
+                                                      @Param("postedDate") LocalDateTime postedDate,
+                                                      @Param("id") Long id,
+                                                      Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE j.companyEmail = :companyEmail")
+    List<JobSummary> findSummariesByCompanyEmail(@Param("companyEmail") String companyEmail);
+
+    // Forward-only cursor: Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the result set.
+    // Must be consumed inside a read-only transaction and closed afterwards.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Job> streamByStatusOrderByPostedDateDesc(String status);
+
     long countByCompanyEmail(String companyEmail);
 
     long countByStatus(String status);
+
+    List<Job> findByJobIdIn(Collection<String> jobIds);
+
+    // [jobId, applicants] for every job
+    @Query("SELECT j.jobId, j.applicants FROM Job j")
+    List<Object[]> findApplicantCounts();
+
+    // Lifecycle transitions due before a horizon, backed by idx_jobs_status_closing_date / idx_jobs_status_publish_date
+    List<Job> findByStatusAndClosingDateLessThanEqual(String status, LocalDateTime until);
+
+    List<Job> findByStatusAndPublishDateLessThanEqual(String status, LocalDateTime until);
+
+    // The status and date conditions make these idempotent: when several instances fire the same transition,
+    // only the first UPDATE matches the row and the others change nothing
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = 'Closed', j.updatedDate = :now " +
+           "WHERE j.jobId IN :jobIds AND j.status = 'Active' AND j.closingDate <= :now")
+    int closeExpired(@Param("jobIds") Collection<String> jobIds, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Job j SET j.status = 'Active', j.updatedDate = :now " +
+           "WHERE j.jobId IN :jobIds AND j.status = 'Draft' AND j.publishDate <= :now")
+    int publishDue(@Param("jobIds") Collection<String> jobIds, @Param("now") LocalDateTime now);
 }
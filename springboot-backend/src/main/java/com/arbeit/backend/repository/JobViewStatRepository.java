@@ -0,0 +1,18 @@
+package com.arbeit.backend.repository;
+
+import com.arbeit.backend.model.JobViewStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobViewStatRepository extends JpaRepository<JobViewStat, Long> {
+
+    // [jobId, total views] for each job that has been viewed at least once
+    @Query("SELECT s.jobId, SUM(s.views) FROM JobViewStat s WHERE s.jobId IN :jobIds GROUP BY s.jobId")
+    List<Object[]> sumViewsByJobIds(@Param("jobIds") Collection<String> jobIds);
+}
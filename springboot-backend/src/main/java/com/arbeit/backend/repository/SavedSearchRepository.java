@@ -0,0 +1,18 @@
+package com.arbeit.backend.repository;
+
+import com.arbeit.backend.model.SavedSearch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByUserEmailOrderByCreatedAtDesc(String userEmail);
+
+    Optional<SavedSearch> findByIdAndUserEmail(Long id, String userEmail);
+
+    long countByUserEmail(String userEmail);
+}
@@ -0,0 +1,161 @@
+package com.arbeit.backend.search;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Per facet value posting bitmaps keyed by Job.id, maintained incrementally
+public class FacetIndex {
+
+    private final List<String> fieldNames;
+    private final Map<String, Map<String, FacetValue>> fields = new HashMap<>();
+    private final Map<Long, Map<String, String>> documentValues = new HashMap<>();
+    private final Roaring64Bitmap allDocuments = new Roaring64Bitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public FacetIndex(List<String> fieldNames) {
+        this.fieldNames = fieldNames;
+        for (String field : fieldNames) {
+            fields.put(field, new HashMap<>());
+        }
+    }
+
+    // values maps facet field -> display label; null labels are not indexed
+    public void put(long docId, Map<String, String> values) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+
+            Map<String, String> normalizedValues = new HashMap<>();
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                String normalized = JobFilter.normalize(entry.getValue());
+                Map<String, FacetValue> fieldValues = fields.get(entry.getKey());
+                if (normalized == null || fieldValues == null) {
+                    continue;
+                }
+                fieldValues.computeIfAbsent(normalized, k -> new FacetValue(entry.getValue().trim()))
+                        .bitmap.addLong(docId);
+                normalizedValues.put(entry.getKey(), normalized);
+            }
+            documentValues.put(docId, normalizedValues);
+            allDocuments.addLong(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // constraint, when non-null, is an extra pre-filter (e.g. a salary or geo match) AND-ed into every result
+    public Result query(Map<String, Set<String>> filters, Roaring64Bitmap constraint) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap matches = match(filters, null, constraint);
+
+            Map<String, Map<String, Long>> counts = new LinkedHashMap<>();
+            for (String field : fieldNames) {
+                // Multi-select faceting: a field's own selection does not narrow its counts
+                Roaring64Bitmap base = filters.containsKey(field) ? match(filters, field, constraint) : matches;
+                boolean unconstrained = constraint == null && (filters.isEmpty()
+                        || (filters.size() == 1 && filters.containsKey(field)));
+
+                Map<String, Long> fieldCounts = new LinkedHashMap<>();
+                for (FacetValue value : fields.get(field).values()) {
+                    long count;
+                    if (unconstrained) {
+                        count = value.bitmap.getLongCardinality();
+                    } else {
+                        Roaring64Bitmap intersection = value.bitmap.clone();
+                        intersection.and(base);
+                        count = intersection.getLongCardinality();
+                    }
+                    if (count > 0) {
+                        fieldCounts.put(value.label, count);
+                    }
+                }
+                counts.put(field, fieldCounts);
+            }
+            return new Result(matches, counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap match(Map<String, Set<String>> filters, String excludedField, Roaring64Bitmap constraint) {
+        Roaring64Bitmap result = allDocuments.clone();
+        if (constraint != null) {
+            result.and(constraint);
+        }
+        for (Map.Entry<String, Set<String>> filter : filters.entrySet()) {
+            if (filter.getKey().equals(excludedField)) {
+                continue;
+            }
+            Map<String, FacetValue> fieldValues = fields.get(filter.getKey());
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (String value : filter.getValue()) {
+                FacetValue facetValue = fieldValues != null ? fieldValues.get(value) : null;
+                if (facetValue != null) {
+                    union.or(facetValue.bitmap);
+                }
+            }
+            result.and(union);
+        }
+        return result;
+    }
+
+    private void removeInternal(long docId) {
+        Map<String, String> existing = documentValues.remove(docId);
+        if (existing == null) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : existing.entrySet()) {
+            Map<String, FacetValue> fieldValues = fields.get(entry.getKey());
+            FacetValue facetValue = fieldValues.get(entry.getValue());
+            facetValue.bitmap.removeLong(docId);
+            if (facetValue.bitmap.isEmpty()) {
+                fieldValues.remove(entry.getValue());
+            }
+        }
+        allDocuments.removeLong(docId);
+    }
+
+    private static class FacetValue {
+        private final String label;
+        private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+
+        private FacetValue(String label) {
+            this.label = label;
+        }
+    }
+
+    public static class Result {
+        private final Roaring64Bitmap matches;
+        private final Map<String, Map<String, Long>> counts;
+
+        public Result(Roaring64Bitmap matches, Map<String, Map<String, Long>> counts) {
+            this.matches = matches;
+            this.counts = counts;
+        }
+
+        public Roaring64Bitmap getMatches() {
+            return matches;
+        }
+
+        public Map<String, Map<String, Long>> getCounts() {
+            return counts;
+        }
+    }
+}
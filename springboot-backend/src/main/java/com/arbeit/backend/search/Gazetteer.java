@@ -0,0 +1,182 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.model.Job;
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// Offline city -> coordinate lookup backed by geo/gazetteer.csv, no geocoding service involved
+@Component
+public class Gazetteer {
+
+    private static final String GAZETTEER_FILE = "geo/gazetteer.csv";
+
+    private static final Map<String, String> COUNTRY_ALIASES = Map.of(
+            "us", "united states",
+            "usa", "united states",
+            "u.s.", "united states",
+            "u.s.a.", "united states",
+            "united states of america", "united states",
+            "uk", "united kingdom",
+            "great britain", "united kingdom",
+            "england", "united kingdom",
+            "uae", "united arab emirates");
+
+    private static final Map<String, String> US_STATE_CODES = Map.ofEntries(
+            Map.entry("al", "alabama"), Map.entry("ak", "alaska"), Map.entry("az", "arizona"),
+            Map.entry("ar", "arkansas"), Map.entry("ca", "california"), Map.entry("co", "colorado"),
+            Map.entry("ct", "connecticut"), Map.entry("de", "delaware"), Map.entry("dc", "district of columbia"),
+            Map.entry("fl", "florida"), Map.entry("ga", "georgia"), Map.entry("hi", "hawaii"),
+            Map.entry("id", "idaho"), Map.entry("il", "illinois"), Map.entry("in", "indiana"),
+            Map.entry("ia", "iowa"), Map.entry("ks", "kansas"), Map.entry("ky", "kentucky"),
+            Map.entry("la", "louisiana"), Map.entry("me", "maine"), Map.entry("md", "maryland"),
+            Map.entry("ma", "massachusetts"), Map.entry("mi", "michigan"), Map.entry("mn", "minnesota"),
+            Map.entry("ms", "mississippi"), Map.entry("mo", "missouri"), Map.entry("mt", "montana"),
+            Map.entry("ne", "nebraska"), Map.entry("nv", "nevada"), Map.entry("nh", "new hampshire"),
+            Map.entry("nj", "new jersey"), Map.entry("nm", "new mexico"), Map.entry("ny", "new york"),
+            Map.entry("nc", "north carolina"), Map.entry("nd", "north dakota"), Map.entry("oh", "ohio"),
+            Map.entry("ok", "oklahoma"), Map.entry("or", "oregon"), Map.entry("pa", "pennsylvania"),
+            Map.entry("ri", "rhode island"), Map.entry("sc", "south carolina"), Map.entry("sd", "south dakota"),
+            Map.entry("tn", "tennessee"), Map.entry("tx", "texas"), Map.entry("ut", "utah"),
+            Map.entry("vt", "vermont"), Map.entry("va", "virginia"), Map.entry("wa", "washington"),
+            Map.entry("wv", "west virginia"), Map.entry("wi", "wisconsin"), Map.entry("wy", "wyoming"));
+
+    // Most specific key wins; shorter keys keep the most populous match
+    private final Map<String, Place> byCityStateCountry = new HashMap<>();
+    private final Map<String, Place> byCityCountry = new HashMap<>();
+    private final Map<String, Place> byCityState = new HashMap<>();
+    private final Map<String, Place> byCity = new HashMap<>();
+
+    @PostConstruct
+    public void load() throws IOException {
+        ClassPathResource resource = new ClassPathResource(GAZETTEER_FILE);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 6) {
+                    continue;
+                }
+                String city = normalize(columns[0]);
+                String state = normalizeState(columns[1]);
+                String country = normalizeCountry(columns[2]);
+                Place place = new Place(Double.parseDouble(columns[3]), Double.parseDouble(columns[4]),
+                        Long.parseLong(columns[5].trim()));
+
+                byCityStateCountry.put(city + "|" + state + "|" + country, place);
+                keepMostPopulous(byCityCountry, city + "|" + country, place);
+                keepMostPopulous(byCityState, city + "|" + state, place);
+                keepMostPopulous(byCity, city, place);
+            }
+        }
+    }
+
+    public Optional<Place> resolve(String city, String state, String country) {
+        String normalizedCity = normalize(city);
+        if (normalizedCity == null) {
+            return Optional.empty();
+        }
+        String normalizedState = normalizeState(state);
+        String normalizedCountry = normalizeCountry(country);
+
+        Place place = null;
+        if (normalizedState != null && normalizedCountry != null) {
+            place = byCityStateCountry.get(normalizedCity + "|" + normalizedState + "|" + normalizedCountry);
+        }
+        if (place == null && normalizedCountry != null) {
+            place = byCityCountry.get(normalizedCity + "|" + normalizedCountry);
+        }
+        if (place == null && normalizedState != null) {
+            place = byCityState.get(normalizedCity + "|" + normalizedState);
+        }
+        if (place == null && normalizedState == null && normalizedCountry == null) {
+            place = byCity.get(normalizedCity);
+        }
+        return Optional.ofNullable(place);
+    }
+
+    // Structured city/state/country first, the free-text location as a fallback
+    public Optional<Place> locate(Job job) {
+        Optional<Place> place = resolve(job.getCity(), job.getState(), job.getCountry());
+        return place.isPresent() ? place : resolve(job.getLocation());
+    }
+
+    // Free-text fallback for values such as "Austin, TX" or "Berlin, Germany"
+    public Optional<Place> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        String[] parts = location.split(",");
+        String city = parts[0];
+        if (parts.length == 1) {
+            return resolve(city, null, null);
+        }
+        if (parts.length == 2) {
+            Optional<Place> asState = resolve(city, parts[1], null);
+            return asState.isPresent() ? asState : resolve(city, null, parts[1]);
+        }
+        return resolve(city, parts[1], parts[2]);
+    }
+
+    private static void keepMostPopulous(Map<String, Place> index, String key, Place place) {
+        Place existing = index.get(key);
+        if (existing == null || existing.population < place.population) {
+            index.put(key, place);
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    private static String normalizeState(String value) {
+        String normalized = normalize(value);
+        return normalized != null ? US_STATE_CODES.getOrDefault(normalized, normalized) : null;
+    }
+
+    private static String normalizeCountry(String value) {
+        String normalized = normalize(value);
+        return normalized != null ? COUNTRY_ALIASES.getOrDefault(normalized, normalized) : null;
+    }
+
+    public static class Place {
+        private final double latitude;
+        private final double longitude;
+        private final long population;
+
+        public Place(double latitude, double longitude, long population) {
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.population = population;
+        }
+
+        public double getLatitude() {
+            return latitude;
+        }
+
+        public double getLongitude() {
+            return longitude;
+        }
+
+        public String geohash() {
+            return GeoHash.encode(latitude, longitude, GeoHash.MAX_PRECISION);
+        }
+    }
+}
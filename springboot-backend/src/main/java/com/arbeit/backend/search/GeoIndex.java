@@ -0,0 +1,174 @@
+package com.arbeit.backend.search;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Jobs sorted by geohash so a geohash prefix is a contiguous key range. Queries cover the search area
+// with a handful of cells, range-scan each prefix and then apply the exact distance/box check.
+public class GeoIndex {
+
+    private static final int MAX_COVERING_CELLS = 64;
+
+    private final TreeMap<String, Long> cells = new TreeMap<>(); // "<geohash>:<id>" -> id
+    private final Map<Long, Position> positions = new HashMap<>();
+    private final Roaring64Bitmap remoteJobs = new Roaring64Bitmap();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, String geohash, boolean remote) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (geohash != null) {
+                double[] center = GeoHash.decode(geohash);
+                String key = geohash + ":" + id;
+                cells.put(key, id);
+                positions.put(id, new Position(key, center[0], center[1]));
+            }
+            if (remote) {
+                remoteJobs.addLong(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> withinRadius(double latitude, double longitude, double radiusKm) {
+        double dLat = GeoHash.kmToLatitudeDegrees(radiusKm);
+        double dLon = GeoHash.kmToLongitudeDegrees(radiusKm, latitude);
+        double minLon = dLon >= 180 ? -180 : longitude - dLon;
+        double maxLon = dLon >= 180 ? 180 : longitude + dLon;
+
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String prefix : coveringCells(Math.max(-90, latitude - dLat), minLon,
+                    Math.min(90, latitude + dLat), maxLon)) {
+                for (Long id : cells.subMap(prefix, true, prefix + "~", false).values()) {
+                    Position position = positions.get(id);
+                    double distance = GeoHash.distanceKm(latitude, longitude, position.latitude, position.longitude);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(id, distance));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort((a, b) -> Double.compare(a.distanceKm, b.distanceKm));
+        return hits;
+    }
+
+    public List<Long> withinBox(double minLat, double minLon, double maxLat, double maxLon) {
+        List<Long> ids = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String prefix : coveringCells(minLat, minLon, maxLat, maxLon)) {
+                for (Long id : cells.subMap(prefix, true, prefix + "~", false).values()) {
+                    Position position = positions.get(id);
+                    if (position.latitude >= minLat && position.latitude <= maxLat
+                            && position.longitude >= minLon && position.longitude <= maxLon) {
+                        ids.add(id);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return ids;
+    }
+
+    public Roaring64Bitmap remoteJobs() {
+        lock.readLock().lock();
+        try {
+            return remoteJobs.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Picks the finest precision whose grid covers the box in at most MAX_COVERING_CELLS cells
+    private static Set<String> coveringCells(double minLat, double minLon, double maxLat, double maxLon) {
+        int precision = 1;
+        long rows = 1;
+        long columns = 1;
+        for (int candidate = GeoHash.MAX_PRECISION; candidate >= 1; candidate--) {
+            rows = (long) Math.ceil((maxLat - minLat) / GeoHash.cellHeight(candidate)) + 1;
+            columns = (long) Math.ceil((maxLon - minLon) / GeoHash.cellWidth(candidate)) + 1;
+            precision = candidate;
+            if (rows * columns <= MAX_COVERING_CELLS) {
+                break;
+            }
+        }
+
+        Set<String> prefixes = new LinkedHashSet<>();
+        for (long row = 0; row < rows; row++) {
+            double latitude = Math.min(minLat + row * GeoHash.cellHeight(precision), maxLat);
+            for (long column = 0; column < columns; column++) {
+                double longitude = Math.min(minLon + column * GeoHash.cellWidth(precision), maxLon);
+                prefixes.add(GeoHash.encode(latitude, wrapLongitude(longitude), precision));
+            }
+        }
+        return prefixes;
+    }
+
+    private static double wrapLongitude(double longitude) {
+        double wrapped = ((longitude + 180) % 360 + 360) % 360 - 180;
+        return longitude == 180 ? 180 : wrapped;
+    }
+
+    private void removeInternal(long id) {
+        Position existing = positions.remove(id);
+        if (existing != null) {
+            cells.remove(existing.key);
+        }
+        remoteJobs.removeLong(id);
+    }
+
+    private static class Position {
+        private final String key;
+        private final double latitude;
+        private final double longitude;
+
+        private Position(String key, double latitude, double longitude) {
+            this.key = key;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+
+    public static class Hit {
+        private final long id;
+        private final double distanceKm;
+
+        public Hit(long id, double distanceKm) {
+            this.id = id;
+            this.distanceKm = distanceKm;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.arbeit.backend.search;
+
+// Hash mixing shared by the sketches and signatures in search and analytics
+public final class Hashing {
+
+    private Hashing() {}
+
+    // SplitMix64 finaliser: cheap, well-distributed 64-bit mixing
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
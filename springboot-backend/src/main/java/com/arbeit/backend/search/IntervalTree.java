@@ -0,0 +1,168 @@
+package com.arbeit.backend.search;
+
+import java.util.function.LongConsumer;
+
+// AVL tree of [low, high] intervals ordered by (low, id), each node augmented with the max high
+// of its subtree so overlap queries visit O(log n + k) nodes. Not thread-safe; callers lock.
+public class IntervalTree {
+
+    private Node root;
+    private int size;
+
+    public void insert(long id, double low, double high) {
+        root = insert(root, new Node(id, low, high));
+        size++;
+    }
+
+    public void delete(long id, double low) {
+        root = delete(root, id, low);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Reports every interval that overlaps [from, to]
+    public void overlapping(double from, double to, LongConsumer consumer) {
+        overlapping(root, from, to, consumer);
+    }
+
+    private void overlapping(Node node, double from, double to, LongConsumer consumer) {
+        if (node == null || node.maxHigh < from) {
+            return;
+        }
+        overlapping(node.left, from, to, consumer);
+        if (node.low > to) {
+            // Everything to the right starts even later
+            return;
+        }
+        if (node.high >= from) {
+            consumer.accept(node.id);
+        }
+        overlapping(node.right, from, to, consumer);
+    }
+
+    private Node insert(Node node, Node inserted) {
+        if (node == null) {
+            return inserted;
+        }
+        if (compare(inserted.low, inserted.id, node) < 0) {
+            node.left = insert(node.left, inserted);
+        } else {
+            node.right = insert(node.right, inserted);
+        }
+        return rebalance(node);
+    }
+
+    private Node delete(Node node, long id, double low) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(low, id, node);
+        if (cmp < 0) {
+            node.left = delete(node.left, id, low);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, id, low);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            // Replace with the in-order successor
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            Node replacement = new Node(successor.id, successor.low, successor.high);
+            replacement.right = removeMin(node.right);
+            replacement.left = node.left;
+            return rebalance(replacement);
+        }
+        return rebalance(node);
+    }
+
+    private Node removeMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    private static int compare(double low, long id, Node node) {
+        int cmp = Double.compare(low, node.low);
+        return cmp != 0 ? cmp : Long.compare(id, node.id);
+    }
+
+    private Node rebalance(Node node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        double maxHigh = node.high;
+        if (node.left != null) {
+            maxHigh = Math.max(maxHigh, node.left.maxHigh);
+        }
+        if (node.right != null) {
+            maxHigh = Math.max(maxHigh, node.right.maxHigh);
+        }
+        node.maxHigh = maxHigh;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static class Node {
+        private final long id;
+        private final double low;
+        private final double high;
+        private double maxHigh;
+        private int height = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long id, double low, double high) {
+            this.id = id;
+            this.low = low;
+            this.high = high;
+            this.maxHigh = high;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Term -> postings index with BM25 scoring. Writers take the write lock, queries share the read lock.
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    // Returns the terms the document was previously indexed under, empty for a new document
+    public List<String> put(long docId, Map<String, Float> termFrequencies) {
+        lock.writeLock().lock();
+        try {
+            List<String> previousTerms = removeInternal(docId);
+
+            float length = 0;
+            for (Map.Entry<String, Float> entry : termFrequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(docId, entry.getValue());
+                length += entry.getValue();
+            }
+            documents.put(docId, new Document(new ArrayList<>(termFrequencies.keySet()), length));
+            totalLength += length;
+            return previousTerms;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<String> remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public TopHits search(Collection<String> terms, int limit) {
+        Map<String, Double> weightedTerms = new HashMap<>();
+        for (String term : terms) {
+            weightedTerms.put(term, 1.0);
+        }
+        return search(weightedTerms, limit);
+    }
+
+    // Each term's BM25 contribution is scaled by its weight, e.g. to discount spelling corrections
+    public TopHits search(Map<String, Double> weightedTerms, int limit) {
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0 || weightedTerms.isEmpty()) {
+                return new TopHits(0, Collections.emptyList());
+            }
+            double averageLength = totalLength / docCount;
+
+            Map<Long, double[]> scores = new HashMap<>();
+            for (Map.Entry<String, Double> weightedTerm : weightedTerms.entrySet()) {
+                String term = weightedTerm.getKey();
+                Map<Long, Float> termPostings = postings.get(term);
+                if (termPostings == null) {
+                    continue;
+                }
+
+                int df = termPostings.size();
+                double idf = weightedTerm.getValue() * Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                for (Map.Entry<Long, Float> posting : termPostings.entrySet()) {
+                    double tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * documents.get(posting.getKey()).length / averageLength);
+                    double termScore = idf * tf * (K1 + 1) / (tf + norm);
+                    scores.computeIfAbsent(posting.getKey(), k -> new double[1])[0] += termScore;
+                }
+            }
+
+            // Bounded min-heap keeps only the best `limit` documents
+            PriorityQueue<Hit> heap = new PriorityQueue<>(Math.max(1, limit + 1),
+                    (a, b) -> Double.compare(a.score, b.score));
+            for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+                heap.offer(new Hit(entry.getKey(), entry.getValue()[0]));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(heap);
+            hits.sort((a, b) -> Double.compare(b.score, a.score));
+            return new TopHits(scores.size(), hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentFrequency(String term) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> termPostings = postings.get(term);
+            return termPostings != null ? termPostings.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<String> removeInternal(long docId) {
+        Document existing = documents.remove(docId);
+        if (existing == null) {
+            return Collections.emptyList();
+        }
+        for (String term : existing.terms) {
+            Map<Long, Float> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(docId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= existing.length;
+        return existing.terms;
+    }
+
+    private static class Document {
+        private final List<String> terms;
+        private final float length;
+
+        private Document(List<String> terms, float length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    public static class Hit {
+        private final long docId;
+        private final double score;
+
+        public Hit(long docId, double score) {
+            this.docId = docId;
+            this.score = score;
+        }
+
+        public long getDocId() {
+            return docId;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    public static class TopHits {
+        private final int totalHits;
+        private final List<Hit> hits;
+
+        public TopHits(int totalHits, List<Hit> hits) {
+            this.totalHits = totalHits;
+            this.hits = hits;
+        }
+
+        public int getTotalHits() {
+            return totalHits;
+        }
+
+        public List<Hit> getHits() {
+            return hits;
+        }
+    }
+}
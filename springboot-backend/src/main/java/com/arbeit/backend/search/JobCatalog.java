@@ -0,0 +1,72 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.repository.JobRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-memory snapshot of the active jobs, shared by the search indexes so queries never touch MySQL
+@Component
+public class JobCatalog {
+
+    private final JobRepository jobRepository;
+    private final Map<Long, Job> jobsById = new ConcurrentHashMap<>();
+    private final Map<String, Long> idsByJobId = new ConcurrentHashMap<>();
+
+    public JobCatalog(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    @PostConstruct
+    public void load() {
+        for (Job job : jobRepository.findActiveJobs()) {
+            put(job);
+        }
+    }
+
+    // Runs ahead of the indexes so a hit is always resolvable once it is searchable
+    @EventListener
+    @Order(0)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isActive()) {
+            put(event.getJob());
+        } else {
+            remove(event.getJob());
+        }
+    }
+
+    public Job get(Long id) {
+        return jobsById.get(id);
+    }
+
+    public Job getByJobId(String jobId) {
+        Long id = idsByJobId.get(jobId);
+        return id != null ? jobsById.get(id) : null;
+    }
+
+    public Collection<Job> all() {
+        return Collections.unmodifiableCollection(jobsById.values());
+    }
+
+    public int size() {
+        return jobsById.size();
+    }
+
+    private void put(Job job) {
+        jobsById.put(job.getId(), job);
+        idsByJobId.put(job.getJobId(), job.getId());
+    }
+
+    private void remove(Job job) {
+        jobsById.remove(job.getId());
+        idsByJobId.remove(job.getJobId());
+    }
+}
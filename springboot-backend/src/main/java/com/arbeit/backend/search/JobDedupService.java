@@ -0,0 +1,160 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.DuplicateJob;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// Near-duplicate detection for reposted jobs. Only postings from the same company are compared.
+@Service
+public class JobDedupService {
+
+    // 16 bands x 8 rows: candidates start appearing around 0.7 similarity
+    private static final int BANDS = 16;
+    private static final int ROWS = 8;
+    private static final int SHINGLE_SIZE = 3;
+    private static final long SEED = 0x5eed_d0c5L;
+
+    private final JobCatalog jobCatalog;
+    private final double threshold;
+    private final MinHasher minHasher = new MinHasher(BANDS * ROWS, SHINGLE_SIZE, SEED);
+    private final LshIndex lshIndex = new LshIndex(BANDS, ROWS);
+
+    public JobDedupService(JobCatalog jobCatalog,
+                           @Value("${app.dedup.similarity-threshold:0.8}") double threshold) {
+        this.jobCatalog = jobCatalog;
+        this.threshold = threshold;
+    }
+
+    // Signatures are independent per job, so the initial build is spread over all cores
+    @PostConstruct
+    public void buildIndex() {
+        jobCatalog.all().parallelStream()
+                .forEach(job -> lshIndex.put(job.getId(), signature(job)));
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            lshIndex.put(event.getJob().getId(), signature(event.getJob()));
+        } else {
+            lshIndex.remove(event.getJob().getId());
+        }
+    }
+
+    // Active postings of the same company that look like copies of job, most similar first
+    public List<DuplicateJob> findDuplicates(Job job) {
+        int[] signature = lshIndex.signature(job.getId());
+        if (signature == null) {
+            signature = signature(job);
+        }
+        List<DuplicateJob> duplicates = new ArrayList<>();
+        for (Map.Entry<Long, Double> candidate : lshIndex.candidates(job.getId(), signature).entrySet()) {
+            Job other = jobCatalog.get(candidate.getKey());
+            if (candidate.getValue() >= threshold && other != null
+                    && Objects.equals(other.getCompanyEmail(), job.getCompanyEmail())) {
+                duplicates.add(new DuplicateJob(other.getJobId(), other.getTitle(), other.getPostedDate(),
+                        candidate.getValue()));
+            }
+        }
+        duplicates.sort(Comparator.comparingDouble(DuplicateJob::getSimilarity).reversed());
+        return duplicates;
+    }
+
+    // Batch scan of one company's catalog: candidate pairs are found in parallel, then merged into
+    // clusters. Each cluster lists the earliest posting first; similarities are relative to it.
+    public List<List<DuplicateJob>> findDuplicateClusters(String companyEmail) {
+        List<Job> jobs = new ArrayList<>();
+        for (Job job : jobCatalog.all()) {
+            if (companyEmail.equals(job.getCompanyEmail())) {
+                jobs.add(job);
+            }
+        }
+
+        List<long[]> pairs = jobs.parallelStream()
+                .flatMap(job -> findDuplicates(job).stream()
+                        .map(duplicate -> jobCatalog.getByJobId(duplicate.getJobId()))
+                        .filter(Objects::nonNull)
+                        .map(other -> new long[] {job.getId(), other.getId()}))
+                .toList();
+
+        Map<Long, Long> parents = new HashMap<>();
+        for (long[] pair : pairs) {
+            long a = root(parents, pair[0]);
+            long b = root(parents, pair[1]);
+            if (a != b) {
+                parents.put(Math.max(a, b), Math.min(a, b));
+            }
+        }
+
+        Map<Long, List<Job>> clusters = new HashMap<>();
+        for (Long id : parents.keySet()) {
+            Job job = jobCatalog.get(id);
+            if (job != null) {
+                clusters.computeIfAbsent(root(parents, id), k -> new ArrayList<>()).add(job);
+            }
+        }
+
+        List<List<DuplicateJob>> result = new ArrayList<>();
+        for (List<Job> cluster : clusters.values()) {
+            if (cluster.size() < 2) {
+                continue;
+            }
+            cluster.sort(Comparator.comparing(Job::getPostedDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(Job::getId));
+            int[] original = lshIndex.signature(cluster.get(0).getId());
+            List<DuplicateJob> entries = new ArrayList<>(cluster.size());
+            for (Job job : cluster) {
+                int[] signature = lshIndex.signature(job.getId());
+                double similarity = original != null && signature != null ? MinHasher.similarity(original, signature) : 0;
+                entries.add(new DuplicateJob(job.getJobId(), job.getTitle(), job.getPostedDate(), similarity));
+            }
+            result.add(entries);
+        }
+        result.sort(Comparator.comparing((List<DuplicateJob> cluster) -> firstPosted(cluster),
+                Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
+    }
+
+    private int[] signature(Job job) {
+        List<String> tokens = new ArrayList<>();
+        tokens.addAll(TextAnalyzer.tokenize(job.getTitle()));
+        tokens.addAll(TextAnalyzer.tokenize(job.getDescription()));
+        tokens.addAll(TextAnalyzer.tokenize(job.getRequirements()));
+        return minHasher.signature(tokens);
+    }
+
+    // Union-find lookup with path compression
+    private static long root(Map<Long, Long> parents, long id) {
+        parents.putIfAbsent(id, id);
+        long root = id;
+        while (parents.get(root) != root) {
+            root = parents.get(root);
+        }
+        long node = id;
+        while (node != root) {
+            long next = parents.get(node);
+            parents.put(node, root);
+            node = next;
+        }
+        return root;
+    }
+
+    private static LocalDateTime firstPosted(List<DuplicateJob> cluster) {
+        return cluster.get(0).getPostedDate();
+    }
+}
@@ -0,0 +1,108 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.JobFilterResponse;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.service.JobService;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class JobFacetService {
+
+    private final JobCatalog jobCatalog;
+    private final SalaryIndex salaryIndex;
+    private final FacetIndex facetIndex = new FacetIndex(JobFilter.FACET_FIELDS);
+
+    public JobFacetService(JobCatalog jobCatalog, SalaryIndex salaryIndex) {
+        this.jobCatalog = jobCatalog;
+        this.salaryIndex = salaryIndex;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (Job job : jobCatalog.all()) {
+            facetIndex.put(job.getId(), facetValues(job));
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            facetIndex.put(event.getJob().getId(), facetValues(event.getJob()));
+        } else {
+            facetIndex.remove(event.getJob().getId());
+        }
+    }
+
+    public JobFilterResponse filter(JobFilter filter, String cursor, Integer limit) {
+        int pageSize = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        FacetIndex.Result result = facetIndex.query(filter.getFacets(), constraint(filter));
+
+        // Newest first: ids are assigned in insertion order, so walk the bitmap backwards
+        PeekableLongIterator iterator;
+        if (cursor == null || cursor.isBlank()) {
+            iterator = result.getMatches().getReverseLongIterator();
+        } else {
+            long position = parseCursor(cursor);
+            if (position <= 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            iterator = result.getMatches().getReverseLongIteratorFrom(position - 1);
+        }
+
+        List<Job> jobs = new ArrayList<>(pageSize);
+        long lastId = -1;
+        while (iterator.hasNext() && jobs.size() < pageSize) {
+            lastId = iterator.next();
+            Job job = jobCatalog.get(lastId);
+            if (job != null) {
+                jobs.add(job);
+            }
+        }
+        String nextCursor = iterator.hasNext() ? String.valueOf(lastId) : null;
+
+        return new JobFilterResponse(result.getMatches().getLongCardinality(), jobs, result.getCounts(), nextCursor);
+    }
+
+    // Non-facet criteria are resolved to a bitmap that the facet index intersects with
+    private Roaring64Bitmap constraint(JobFilter filter) {
+        if (!filter.hasSalaryRange()) {
+            return null;
+        }
+        double from = filter.getSalaryFrom() != null ? filter.getSalaryFrom() : Double.NEGATIVE_INFINITY;
+        double to = filter.getSalaryTo() != null ? filter.getSalaryTo() : Double.POSITIVE_INFINITY;
+        return salaryIndex.overlapping(filter.getFacets().get("salaryCurrency"), from, to);
+    }
+
+    private static long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    static Map<String, String> facetValues(Job job) {
+        Map<String, String> values = new HashMap<>();
+        values.put("jobType", job.getJobType());
+        values.put("city", job.getCity());
+        values.put("state", job.getState());
+        values.put("country", job.getCountry());
+        values.put("department", job.getDepartment());
+        values.put("remoteWork", String.valueOf(job.isRemoteWork()));
+        values.put("salaryCurrency", job.getSalaryCurrency());
+        return values;
+    }
+}
@@ -0,0 +1,93 @@
+package com.arbeit.backend.search;
+
+import org.springframework.util.MultiValueMap;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Criteria for GET /jobs/filter. Values within a facet are OR-ed, facets and the salary band are AND-ed together.
+public class JobFilter {
+
+    public static final List<String> FACET_FIELDS = List.of(
+            "jobType", "city", "state", "country", "department", "remoteWork", "salaryCurrency");
+
+    private final Map<String, Set<String>> facets = new LinkedHashMap<>();
+    private Double salaryFrom;
+    private Double salaryTo;
+
+    public static JobFilter fromParams(MultiValueMap<String, String> params) {
+        JobFilter filter = new JobFilter();
+        for (String field : FACET_FIELDS) {
+            List<String> rawValues = params.get(field);
+            if (rawValues == null) {
+                continue;
+            }
+            for (String rawValue : rawValues) {
+                // Accept both repeated parameters and comma-separated lists
+                for (String value : rawValue.split(",")) {
+                    filter.addFacetValue(field, value);
+                }
+            }
+        }
+        filter.setSalaryFrom(parseAmount(params.getFirst("salaryFrom")));
+        filter.setSalaryTo(parseAmount(params.getFirst("salaryTo")));
+        if (filter.salaryFrom != null && filter.salaryTo != null && filter.salaryFrom > filter.salaryTo) {
+            throw new IllegalArgumentException("salaryFrom must not exceed salaryTo");
+        }
+        return filter;
+    }
+
+    public void addFacetValue(String field, String value) {
+        String normalized = normalize(value);
+        if (normalized != null) {
+            facets.computeIfAbsent(field, k -> new LinkedHashSet<>()).add(normalized);
+        }
+    }
+
+    public Map<String, Set<String>> getFacets() {
+        return facets;
+    }
+
+    public Double getSalaryFrom() {
+        return salaryFrom;
+    }
+
+    public void setSalaryFrom(Double salaryFrom) {
+        this.salaryFrom = salaryFrom;
+    }
+
+    public Double getSalaryTo() {
+        return salaryTo;
+    }
+
+    public void setSalaryTo(Double salaryTo) {
+        this.salaryTo = salaryTo;
+    }
+
+    public boolean hasSalaryRange() {
+        return salaryFrom != null || salaryTo != null;
+    }
+
+    private static Double parseAmount(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid salary amount: " + value);
+        }
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,134 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.JobDistanceHit;
+import com.arbeit.backend.dto.NearbyJobsResponse;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.service.JobService;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.longlong.LongIterator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class JobGeoService {
+
+    public static final double DEFAULT_RADIUS_KM = 50;
+    public static final double MAX_RADIUS_KM = 20000;
+
+    private final JobCatalog jobCatalog;
+    private final Gazetteer gazetteer;
+    private final GeoIndex geoIndex = new GeoIndex();
+
+    public JobGeoService(JobCatalog jobCatalog, Gazetteer gazetteer) {
+        this.jobCatalog = jobCatalog;
+        this.gazetteer = gazetteer;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (Job job : jobCatalog.all()) {
+            index(job);
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            index(event.getJob());
+        } else {
+            geoIndex.remove(event.getJob().getId());
+        }
+    }
+
+    // Centre comes from explicit coordinates or, failing that, a gazetteer lookup of city/state/country
+    public NearbyJobsResponse withinRadius(Double latitude, Double longitude, String city, String state, String country,
+                                           Double radiusKm, boolean includeRemote, Integer limit) {
+        if (latitude == null || longitude == null) {
+            Gazetteer.Place place = gazetteer.resolve(city, state, country)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown location"));
+            latitude = place.getLatitude();
+            longitude = place.getLongitude();
+        }
+        validateCoordinates(latitude, longitude);
+        double radius = radiusKm == null ? DEFAULT_RADIUS_KM : radiusKm;
+        if (radius <= 0 || radius > MAX_RADIUS_KM) {
+            throw new IllegalArgumentException("radiusKm must be between 0 and " + (int) MAX_RADIUS_KM);
+        }
+
+        List<JobDistanceHit> hits = new ArrayList<>();
+        for (GeoIndex.Hit hit : geoIndex.withinRadius(latitude, longitude, radius)) {
+            Job job = jobCatalog.get(hit.getId());
+            if (job != null) {
+                hits.add(new JobDistanceHit(job, hit.getDistanceKm()));
+            }
+        }
+        if (includeRemote) {
+            mergeRemote(hits);
+        }
+        return new NearbyJobsResponse(latitude, longitude, radius, hits.size(), truncate(hits, limit));
+    }
+
+    public NearbyJobsResponse withinBox(double minLat, double minLon, double maxLat, double maxLon,
+                                        boolean includeRemote, Integer limit) {
+        validateCoordinates(minLat, minLon);
+        validateCoordinates(maxLat, maxLon);
+        if (minLat > maxLat || minLon > maxLon) {
+            throw new IllegalArgumentException("Invalid bounding box");
+        }
+
+        List<JobDistanceHit> hits = new ArrayList<>();
+        for (Long id : geoIndex.withinBox(minLat, minLon, maxLat, maxLon)) {
+            Job job = jobCatalog.get(id);
+            if (job != null) {
+                hits.add(new JobDistanceHit(job, null));
+            }
+        }
+        if (includeRemote) {
+            mergeRemote(hits);
+        }
+        return new NearbyJobsResponse(null, null, null, hits.size(), truncate(hits, limit));
+    }
+
+    private void index(Job job) {
+        // Rows written before geohashes were stored are resolved on the fly
+        String geohash = job.getGeohash() != null
+                ? job.getGeohash()
+                : gazetteer.locate(job).map(Gazetteer.Place::geohash).orElse(null);
+        geoIndex.put(job.getId(), geohash, job.isRemoteWork());
+    }
+
+    private void mergeRemote(List<JobDistanceHit> hits) {
+        Set<Long> seen = new HashSet<>();
+        for (JobDistanceHit hit : hits) {
+            seen.add(hit.getJob().getId());
+        }
+        LongIterator remote = geoIndex.remoteJobs().getReverseLongIterator();
+        while (remote.hasNext()) {
+            long id = remote.next();
+            Job job = jobCatalog.get(id);
+            if (job != null && seen.add(id)) {
+                hits.add(new JobDistanceHit(job, null));
+            }
+        }
+    }
+
+    private static List<JobDistanceHit> truncate(List<JobDistanceHit> hits, Integer limit) {
+        int maxHits = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        return hits.size() > maxHits ? new ArrayList<>(hits.subList(0, maxHits)) : hits;
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.JobRecommendation;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.service.JobService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class JobRecommendationService {
+
+    // Blend of skill similarity and freshness; Jaccard rewards a close fit, coverage rewards meeting
+    // most of what the posting asks for even when the candidate lists many other skills
+    private static final double JACCARD_WEIGHT = 0.45;
+    private static final double COVERAGE_WEIGHT = 0.40;
+    private static final double RECENCY_WEIGHT = 0.15;
+    private static final double RECENCY_HALF_LIFE_DAYS = 30;
+
+    private final JobCatalog jobCatalog;
+    private final SkillDictionary dictionary = new SkillDictionary();
+    private final RecommendationIndex index = new RecommendationIndex();
+
+    public JobRecommendationService(JobCatalog jobCatalog) {
+        this.jobCatalog = jobCatalog;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (Job job : jobCatalog.all()) {
+            index(job);
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            index(event.getJob());
+        } else {
+            index.remove(event.getJob().getId());
+        }
+    }
+
+    public List<JobRecommendation> recommend(List<String> userSkills, Integer limit) {
+        int maxHits = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        // Skills no job has ever asked for cannot match, so they are not added to the dictionary
+        SkillSet query = dictionary.encode(userSkills, false);
+        // postedDate is a zone-less local timestamp, so "now" is encoded the same way
+        long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+
+        List<JobRecommendation> recommendations = new ArrayList<>();
+        for (RecommendationIndex.Hit hit : index.topK(query, maxHits,
+                (overlap, jobCardinality, queryCardinality, posted) -> score(overlap, jobCardinality,
+                        queryCardinality, posted, now))) {
+            Job job = jobCatalog.get(hit.getId());
+            if (job != null) {
+                recommendations.add(new JobRecommendation(job, hit.getScore(), matchedSkills(job, userSkills)));
+            }
+        }
+        return recommendations;
+    }
+
+    private void index(Job job) {
+        long posted = job.getPostedDate() != null ? job.getPostedDate().toEpochSecond(ZoneOffset.UTC) : 0;
+        index.put(job.getId(), dictionary.encode(job.getSkillsRequired(), true), posted);
+    }
+
+    private static double score(int overlap, int jobCardinality, int queryCardinality, long posted, long now) {
+        double jaccard = (double) overlap / (jobCardinality + queryCardinality - overlap);
+        double coverage = (double) overlap / jobCardinality;
+        double ageDays = Math.max(0, now - posted) / 86400.0;
+        double recency = Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+        return JACCARD_WEIGHT * jaccard + COVERAGE_WEIGHT * coverage + RECENCY_WEIGHT * recency;
+    }
+
+    private static List<String> matchedSkills(Job job, List<String> userSkills) {
+        Set<String> wanted = new HashSet<>();
+        for (String skill : userSkills) {
+            String normalized = JobFilter.normalize(skill);
+            if (normalized != null) {
+                wanted.add(normalized);
+            }
+        }
+        List<String> matched = new ArrayList<>();
+        for (String skill : job.getSkillsRequired()) {
+            if (wanted.contains(JobFilter.normalize(skill))) {
+                matched.add(skill.trim());
+            }
+        }
+        return matched;
+    }
+}
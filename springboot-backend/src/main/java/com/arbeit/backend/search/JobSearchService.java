@@ -0,0 +1,119 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.JobSearchHit;
+import com.arbeit.backend.dto.JobSearchResponse;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.service.JobService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class JobSearchService {
+
+    // Field boosts applied to term frequencies before BM25 scoring
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float SKILLS_WEIGHT = 2.0f;
+    private static final float DEPARTMENT_WEIGHT = 1.5f;
+    private static final float BODY_WEIGHT = 1.0f;
+
+    // Unknown query terms are expanded to their closest vocabulary terms, scored below exact matches
+    private static final int MAX_CORRECTIONS_PER_TERM = 3;
+    private static final double CORRECTION_WEIGHT = 0.8;
+
+    private final JobCatalog jobCatalog;
+    private final InvertedIndex index = new InvertedIndex();
+    private final SpellingDictionary spellingDictionary;
+
+    public JobSearchService(JobCatalog jobCatalog,
+                            @Value("${app.search.spelling.max-terms:50000}") int maxSpellingTerms) {
+        this.jobCatalog = jobCatalog;
+        this.spellingDictionary = new SpellingDictionary(maxSpellingTerms);
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (Job job : jobCatalog.all()) {
+            put(job);
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            put(event.getJob());
+        } else {
+            spellingDictionary.update(index.remove(event.getJob().getId()), List.of());
+        }
+    }
+
+    public JobSearchResponse search(String query, Integer limit) {
+        int maxHits = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+
+        Map<String, Double> weightedTerms = new LinkedHashMap<>();
+        List<String> correctedQuery = new ArrayList<>(terms.size());
+        boolean corrected = false;
+        for (String term : terms) {
+            weightedTerms.put(term, 1.0);
+            List<String> corrections = index.documentFrequency(term) > 0
+                    ? List.of()
+                    : spellingDictionary.suggestions(term, MAX_CORRECTIONS_PER_TERM);
+            for (String correction : corrections) {
+                weightedTerms.putIfAbsent(correction, CORRECTION_WEIGHT);
+            }
+            corrected |= !corrections.isEmpty();
+            correctedQuery.add(corrections.isEmpty() ? term : corrections.get(0));
+        }
+
+        InvertedIndex.TopHits topHits = index.search(weightedTerms, maxHits);
+        List<JobSearchHit> hits = new ArrayList<>(topHits.getHits().size());
+        for (InvertedIndex.Hit hit : topHits.getHits()) {
+            Job job = jobCatalog.get(hit.getDocId());
+            if (job != null) {
+                hits.add(new JobSearchHit(job, hit.getScore()));
+            }
+        }
+        return new JobSearchResponse(query, topHits.getTotalHits(), hits,
+                corrected ? String.join(" ", correctedQuery) : null);
+    }
+
+    private void put(Job job) {
+        Map<String, Float> frequencies = termFrequencies(job);
+        spellingDictionary.update(index.put(job.getId(), frequencies), frequencies.keySet());
+    }
+
+    private Map<String, Float> termFrequencies(Job job) {
+        Map<String, Float> frequencies = new HashMap<>();
+        addField(frequencies, job.getTitle(), TITLE_WEIGHT);
+        addField(frequencies, job.getDepartment(), DEPARTMENT_WEIGHT);
+        addField(frequencies, job.getDescription(), BODY_WEIGHT);
+        addField(frequencies, job.getRequirements(), BODY_WEIGHT);
+        addField(frequencies, job.getQualification(), BODY_WEIGHT);
+        if (job.getSkillsRequired() != null) {
+            for (String skill : job.getSkillsRequired()) {
+                addField(frequencies, skill, SKILLS_WEIGHT);
+            }
+        }
+        return frequencies;
+    }
+
+    private void addField(Map<String, Float> frequencies, String text, float weight) {
+        for (String token : TextAnalyzer.tokenize(text)) {
+            frequencies.merge(token, weight, Float::sum);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.JobSuggestion;
+import com.arbeit.backend.event.CompanyChangedEvent;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Company;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.repository.CompanyRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Typeahead over job titles, skills and company names. Weight is the number of active jobs using a term,
+// so popular completions surface first. Multi-word terms are also keyed from each later word, which lets
+// "dev" complete "Senior Java Developer".
+@Service
+public class JobSuggestService {
+
+    public static final int DEFAULT_SUGGESTIONS = 8;
+    public static final int MAX_SUGGESTIONS = 25;
+
+    private static final int MAX_TERM_LENGTH = 100;
+
+    public enum Type {
+        TITLE, SKILL, COMPANY
+    }
+
+    private final JobCatalog jobCatalog;
+    private final CompanyRepository companyRepository;
+    private final Map<String, Term> terms = new HashMap<>(); // "<type>|<normalized text>" -> term
+    private final Map<Long, List<Term>> contributions = new HashMap<>(); // job id -> terms it counted towards
+    private final Map<String, Term> companyTerms = new HashMap<>(); // company email -> term of its registered name
+    private final RadixTrie<Term> trie = new RadixTrie<>(term -> term.weight);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public JobSuggestService(JobCatalog jobCatalog, CompanyRepository companyRepository) {
+        this.jobCatalog = jobCatalog;
+        this.companyRepository = companyRepository;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        lock.writeLock().lock();
+        try {
+            for (Company company : companyRepository.findAll()) {
+                indexCompany(company);
+            }
+            for (Job job : jobCatalog.all()) {
+                indexJob(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeJob(event.getJob().getId());
+            if (event.isActive()) {
+                indexJob(event.getJob());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onCompanyChanged(CompanyChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            indexCompany(event.getCompany());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<JobSuggestion> suggest(String prefix, Integer limit) {
+        int maxSuggestions = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        String normalized = normalize(prefix);
+        if (normalized == null) {
+            return List.of();
+        }
+
+        List<JobSuggestion> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Term term : trie.topByPrefix(normalized, maxSuggestions)) {
+                suggestions.add(new JobSuggestion(term.display, term.type.name().toLowerCase(Locale.ROOT), term.weight));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    // Registered companies are suggestible even before they post, with a minimal weight per company; a rename
+    // moves that weight from the old name to the new one
+    private void indexCompany(Company company) {
+        Term term = termFor(Type.COMPANY, company.getCompanyName());
+        Term previous = term != null
+                ? companyTerms.put(company.getCompanyEmail(), term)
+                : companyTerms.remove(company.getCompanyEmail());
+        if (previous == term) {
+            return;
+        }
+        if (previous != null) {
+            previous.baseWeight--;
+            adjust(previous, 0);
+        }
+        if (term != null) {
+            term.baseWeight++;
+            adjust(term, 0);
+        }
+    }
+
+    private void indexJob(Job job) {
+        Set<Term> jobTerms = new LinkedHashSet<>();
+        addTerm(jobTerms, Type.TITLE, job.getTitle());
+        addTerm(jobTerms, Type.COMPANY, job.getCompanyName());
+        if (job.getSkillsRequired() != null) {
+            for (String skill : job.getSkillsRequired()) {
+                addTerm(jobTerms, Type.SKILL, skill);
+            }
+        }
+        for (Term term : jobTerms) {
+            adjust(term, 1);
+        }
+        contributions.put(job.getId(), new ArrayList<>(jobTerms));
+    }
+
+    private void removeJob(long jobId) {
+        List<Term> previous = contributions.remove(jobId);
+        if (previous != null) {
+            for (Term term : previous) {
+                adjust(term, -1);
+            }
+        }
+    }
+
+    private void addTerm(Set<Term> jobTerms, Type type, String text) {
+        Term term = termFor(type, text);
+        if (term != null) {
+            jobTerms.add(term);
+        }
+    }
+
+    private Term termFor(Type type, String text) {
+        String normalized = normalize(text);
+        if (normalized == null || normalized.length() > MAX_TERM_LENGTH) {
+            return null;
+        }
+        return terms.computeIfAbsent(type + "|" + normalized, k -> new Term(type, normalized, text.trim()));
+    }
+
+    // Terms enter the trie on first use and leave it once nothing references them
+    private void adjust(Term term, int delta) {
+        boolean wasIndexed = term.weight > 0;
+        term.jobCount += delta;
+        term.weight = term.jobCount + term.baseWeight;
+
+        for (String key : term.keys) {
+            if (term.weight <= 0) {
+                trie.remove(key, term);
+            } else if (wasIndexed) {
+                trie.reweigh(key);
+            } else {
+                trie.add(key, term);
+            }
+        }
+        if (term.weight <= 0) {
+            terms.remove(term.type + "|" + term.normalized);
+        }
+    }
+
+    private static String normalize(String value) {
+        String normalized = JobFilter.normalize(value);
+        return normalized == null ? null : normalized.replaceAll("\\s+", " ");
+    }
+
+    private static class Term {
+        private final Type type;
+        private final String normalized;
+        private final String display;
+        private final Set<String> keys = new HashSet<>();
+        private int jobCount;
+        private int baseWeight;
+        private long weight;
+
+        private Term(Type type, String normalized, String display) {
+            this.type = type;
+            this.normalized = normalized;
+            this.display = display;
+            // Full text plus every word-start suffix
+            keys.add(normalized);
+            for (int i = 0; i < normalized.length(); i++) {
+                if (normalized.charAt(i) == ' ' && i + 1 < normalized.length()) {
+                    keys.add(normalized.substring(i + 1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Locality-sensitive hashing over MinHash signatures: the signature is cut into bands and each band is
+// hashed into a bucket. Documents sharing any bucket become candidates, so a lookup touches a few small
+// buckets instead of the whole corpus. With b bands of r rows the collision probability crosses 1/2
+// around similarity (1/b)^(1/r).
+public class LshIndex {
+
+    private final int bands;
+    private final int rows;
+    private final List<Map<Long, Set<Long>>> buckets; // one bucket map per band
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public LshIndex(int bands, int rows) {
+        this.bands = bands;
+        this.rows = rows;
+        this.buckets = new ArrayList<>(bands);
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public void put(long id, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            signatures.put(id, signature);
+            for (int band = 0; band < bands; band++) {
+                buckets.get(band).computeIfAbsent(bandKey(signature, band), k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int[] signature(long id) {
+        lock.readLock().lock();
+        try {
+            return signatures.get(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Candidate ids with their estimated similarity; the query document itself is excluded
+    public Map<Long, Double> candidates(long id, int[] signature) {
+        Map<Long, Double> candidates = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int band = 0; band < bands; band++) {
+                Set<Long> bucket = buckets.get(band).get(bandKey(signature, band));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Long candidate : bucket) {
+                    if (candidate != id && !candidates.containsKey(candidate)) {
+                        candidates.put(candidate, MinHasher.similarity(signature, signatures.get(candidate)));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return candidates;
+    }
+
+    private void removeInternal(long id) {
+        int[] existing = signatures.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (int band = 0; band < bands; band++) {
+            long key = bandKey(existing, band);
+            Set<Long> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+        long key = 1125899906842597L;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            key = 31 * key + signature[i];
+        }
+        return key;
+    }
+}
@@ -0,0 +1,56 @@
+package com.arbeit.backend.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// MinHash signatures over word shingles. The fraction of positions two signatures agree on estimates the
+// Jaccard similarity of their shingle sets.
+public class MinHasher {
+
+    private final int shingleSize;
+    private final long[] seeds;
+
+    public MinHasher(int signatureLength, int shingleSize, long seed) {
+        this.shingleSize = shingleSize;
+        this.seeds = new long[signatureLength];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < signatureLength; i++) {
+            seeds[i] = random.nextLong();
+        }
+    }
+
+    public int signatureLength() {
+        return seeds.length;
+    }
+
+    // Texts shorter than one shingle are hashed as a single shingle so they still get a signature
+    public int[] signature(List<String> tokens) {
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int shingles = Math.max(1, tokens.size() - shingleSize + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0x9e3779b97f4a7c15L;
+            for (int i = start; i < Math.min(tokens.size(), start + shingleSize); i++) {
+                shingle = Hashing.mix(shingle ^ tokens.get(i).hashCode());
+            }
+            for (int h = 0; h < seeds.length; h++) {
+                int value = (int) (Hashing.mix(shingle ^ seeds[h]) >>> 33);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+}
@@ -0,0 +1,179 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Reverse index of stored queries: each query is filed under one key it requires (a keyword term or the
+// values of one facet), so a document only has to look up its own terms and facet values to find the few
+// queries that could possibly match, which are then checked in full. Queries with no term or facet (salary
+// band only) cannot be narrowed down and are checked against every document.
+public class QueryPercolator {
+
+    // Facets tried as anchor when a query has no keywords, most selective first
+    private static final List<String> FACET_SELECTIVITY = List.of(
+            "city", "department", "state", "country", "jobType", "salaryCurrency", "remoteWork");
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, StoredQuery> queries = new HashMap<>();
+    private final Set<Long> unanchored = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, Set<String> terms, Map<String, Set<String>> facets, Double salaryFrom, Double salaryTo) {
+        StoredQuery query = new StoredQuery(terms, facets, salaryFrom, salaryTo);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            queries.put(id, query);
+            if (query.anchors.isEmpty()) {
+                unanchored.add(id);
+            }
+            for (String anchor : query.anchors) {
+                postings.computeIfAbsent(anchor, k -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ids of the stored queries the document satisfies; facet values are expected normalized
+    public List<Long> match(Set<String> terms, Map<String, String> facets, Double salaryMin, Double salaryMax) {
+        List<Long> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = new HashSet<>(unanchored);
+            for (String term : terms) {
+                addAll(candidates, postings.get(termKey(term)));
+            }
+            for (Map.Entry<String, String> facet : facets.entrySet()) {
+                if (facet.getValue() != null) {
+                    addAll(candidates, postings.get(facetKey(facet.getKey(), facet.getValue())));
+                }
+            }
+            for (Long id : candidates) {
+                if (queries.get(id).matches(terms, facets, salaryMin, salaryMax)) {
+                    matches.add(id);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return queries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        StoredQuery existing = queries.remove(id);
+        if (existing == null) {
+            return;
+        }
+        unanchored.remove(id);
+        for (String anchor : existing.anchors) {
+            Set<Long> ids = postings.get(anchor);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(anchor);
+            }
+        }
+    }
+
+    private static void addAll(Set<Long> candidates, Set<Long> ids) {
+        if (ids != null) {
+            candidates.addAll(ids);
+        }
+    }
+
+    private static String termKey(String term) {
+        return "t:" + term;
+    }
+
+    private static String facetKey(String field, String value) {
+        return "f:" + field + "=" + value;
+    }
+
+    private static class StoredQuery {
+        private final Set<String> terms;
+        private final Map<String, Set<String>> facets;
+        private final Double salaryFrom;
+        private final Double salaryTo;
+        private final List<String> anchors = new ArrayList<>(1);
+
+        private StoredQuery(Set<String> terms, Map<String, Set<String>> facets, Double salaryFrom, Double salaryTo) {
+            this.terms = terms;
+            this.facets = facets;
+            this.salaryFrom = salaryFrom;
+            this.salaryTo = salaryTo;
+
+            // Every term is required, so any one will do; longer terms tend to be rarer in postings
+            String anchorTerm = null;
+            for (String term : terms) {
+                if (anchorTerm == null || term.length() > anchorTerm.length()) {
+                    anchorTerm = term;
+                }
+            }
+            if (anchorTerm != null) {
+                anchors.add(termKey(anchorTerm));
+                return;
+            }
+            // A facet is satisfied by any of its values, so the query is filed under each of them
+            for (String field : FACET_SELECTIVITY) {
+                Set<String> values = facets.get(field);
+                if (values != null && !values.isEmpty()) {
+                    for (String value : values) {
+                        anchors.add(facetKey(field, value));
+                    }
+                    return;
+                }
+            }
+        }
+
+        private boolean matches(Set<String> documentTerms, Map<String, String> documentFacets,
+                                Double salaryMin, Double salaryMax) {
+            if (!documentTerms.containsAll(terms)) {
+                return false;
+            }
+            for (Map.Entry<String, Set<String>> facet : facets.entrySet()) {
+                if (!facet.getValue().contains(documentFacets.get(facet.getKey()))) {
+                    return false;
+                }
+            }
+            if (salaryFrom == null && salaryTo == null) {
+                return true;
+            }
+            // Jobs without any salary cannot satisfy a salary band; a single bound is treated as a point
+            if (salaryMin == null && salaryMax == null) {
+                return false;
+            }
+            // Bounds entered the wrong way round are swapped, as in SalaryIndex
+            double low = salaryMin != null ? salaryMin : salaryMax;
+            double high = salaryMax != null ? salaryMax : salaryMin;
+            if (low > high) {
+                double swap = low;
+                low = high;
+                high = swap;
+            }
+            return (salaryTo == null || low <= salaryTo) && (salaryFrom == null || high >= salaryFrom);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+// Compressed (radix) trie whose edges carry whole label fragments; a key may hold several values. Every
+// node caches the best weight in its subtree, so a top-N prefix lookup is a best-first walk that stops
+// after N results instead of visiting every completion. Not thread-safe; callers guard it with their own lock.
+public class RadixTrie<V> {
+
+    private final Node<V> root = new Node<>("");
+    private final ToLongFunction<V> weigher;
+
+    public RadixTrie(ToLongFunction<V> weigher) {
+        this.weigher = weigher;
+    }
+
+    public void add(String key, V value) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            char next = key.charAt(position);
+            Node<V> child = node.children != null ? node.children.get(next) : null;
+            if (child == null) {
+                child = new Node<>(key.substring(position));
+                node.addChild(child);
+                node = child;
+                path.add(node);
+                position = key.length();
+                break;
+            }
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                // Split the edge so the shared fragment becomes its own node
+                Node<V> middle = new Node<>(child.label.substring(0, common));
+                node.children.remove(next);
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                middle.best = child.best;
+                node.addChild(middle);
+                child = middle;
+            }
+            node = child;
+            path.add(node);
+            position += common;
+        }
+        if (node.values == null) {
+            node.values = new ArrayList<>(1);
+        }
+        if (!node.values.contains(value)) {
+            node.values.add(value);
+        }
+        refresh(path);
+    }
+
+    public void remove(String key, V value) {
+        List<Node<V>> path = find(key);
+        if (path == null) {
+            return;
+        }
+        Node<V> node = path.get(path.size() - 1);
+        if (node.values != null) {
+            node.values.remove(value);
+            if (node.values.isEmpty()) {
+                node.values = null;
+            }
+        }
+        // Drop nodes left without values or children; single-child chains are not re-merged
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node<V> current = path.get(i);
+            if (current.values != null || (current.children != null && !current.children.isEmpty())) {
+                break;
+            }
+            path.get(i - 1).children.remove(current.label.charAt(0));
+            path.remove(i);
+        }
+        refresh(path);
+    }
+
+    // Re-reads the weights stored under key after a value changed in place
+    public void reweigh(String key) {
+        List<Node<V>> path = find(key);
+        if (path != null) {
+            refresh(path);
+        }
+    }
+
+    // Distinct values under keys starting with prefix, heaviest first
+    public List<V> topByPrefix(String prefix, int limit) {
+        Node<V> start = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            Node<V> child = start.children != null ? start.children.get(prefix.charAt(position)) : null;
+            if (child == null) {
+                return List.of();
+            }
+            int common = commonPrefixLength(child.label, prefix, position);
+            if (position + common < prefix.length() && common < child.label.length()) {
+                return List.of();
+            }
+            position += common;
+            start = child;
+        }
+
+        Set<V> results = new LinkedHashSet<>();
+        PriorityQueue<Candidate<V>> queue = new PriorityQueue<>(
+                Comparator.comparingLong((Candidate<V> c) -> c.weight).reversed());
+        queue.add(new Candidate<>(start, null, start.best));
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate<V> candidate = queue.poll();
+            if (candidate.value != null) {
+                results.add(candidate.value);
+                continue;
+            }
+            Node<V> node = candidate.node;
+            if (node.values != null) {
+                for (V value : node.values) {
+                    queue.add(new Candidate<>(null, value, weigher.applyAsLong(value)));
+                }
+            }
+            if (node.children != null) {
+                for (Node<V> child : node.children.values()) {
+                    queue.add(new Candidate<>(child, null, child.best));
+                }
+            }
+        }
+        return new ArrayList<>(results);
+    }
+
+    private List<Node<V>> find(String key) {
+        List<Node<V>> path = new ArrayList<>();
+        Node<V> node = root;
+        path.add(node);
+        int position = 0;
+        while (position < key.length()) {
+            Node<V> child = node.children != null ? node.children.get(key.charAt(position)) : null;
+            if (child == null || !key.startsWith(child.label, position)) {
+                return null;
+            }
+            position += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    // Recomputes the cached subtree maxima bottom-up along the path that was touched
+    private void refresh(List<Node<V>> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<V> node = path.get(i);
+            long best = Long.MIN_VALUE;
+            if (node.values != null) {
+                for (V value : node.values) {
+                    best = Math.max(best, weigher.applyAsLong(value));
+                }
+            }
+            if (node.children != null) {
+                for (Node<V> child : node.children.values()) {
+                    best = Math.max(best, child.best);
+                }
+            }
+            node.best = best;
+        }
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static class Node<V> {
+        private String label;
+        private List<V> values;
+        private Map<Character, Node<V>> children;
+        private long best = Long.MIN_VALUE;
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        private void addChild(Node<V> child) {
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            children.put(child.label.charAt(0), child);
+        }
+    }
+
+    private static class Candidate<V> {
+        private final Node<V> node;
+        private final V value;
+        private final long weight;
+
+        private Candidate(Node<V> node, V value, long weight) {
+            this.node = node;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
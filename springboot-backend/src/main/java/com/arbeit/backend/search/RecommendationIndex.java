@@ -0,0 +1,175 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// Per-job skill bitsets laid out in parallel slot arrays so a full scan is a tight loop of
+// AND + popcount. Freed slots are recycled; a scan splits the slot range across the common pool.
+public class RecommendationIndex {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private static final Comparator<Hit> WORST_FIRST =
+            Comparator.comparingDouble(Hit::getScore).thenComparingLong(Hit::getId); // ties favour newer ids
+
+    private SkillSet[] skills = new SkillSet[1024];
+    private long[] ids = new long[1024];
+    private long[] postedEpochSeconds = new long[1024];
+    private int slotCount;
+    private final List<Integer> freeSlots = new ArrayList<>();
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void put(long id, SkillSet skillSet, long postedEpochSecond) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot == null) {
+                slot = allocateSlot();
+                slotsById.put(id, slot);
+            }
+            skills[slot] = skillSet;
+            ids[slot] = id;
+            postedEpochSeconds[slot] = postedEpochSecond;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.remove(id);
+            if (slot != null) {
+                skills[slot] = null;
+                freeSlots.add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Jobs sharing no skill with the query are never scored
+    public List<Hit> topK(SkillSet query, int k, Scorer scorer) {
+        if (query.isEmpty() || k <= 0) {
+            return List.of();
+        }
+        long[] dense = query.toDense();
+        int queryCardinality = query.cardinality();
+
+        lock.readLock().lock();
+        try {
+            int chunks = (slotCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            IntStream chunkIndexes = IntStream.range(0, chunks);
+            if (chunks > 1) {
+                chunkIndexes = chunkIndexes.parallel();
+            }
+            PriorityQueue<Hit> best = chunkIndexes
+                    .mapToObj(chunk -> scanChunk(chunk, dense, queryCardinality, k, scorer))
+                    .reduce(new PriorityQueue<>(WORST_FIRST), (a, b) -> merge(a, b, k));
+
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(WORST_FIRST.reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PriorityQueue<Hit> scanChunk(int chunk, long[] dense, int queryCardinality, int k, Scorer scorer) {
+        PriorityQueue<Hit> heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+        int end = Math.min(slotCount, (chunk + 1) * CHUNK_SIZE);
+        for (int slot = chunk * CHUNK_SIZE; slot < end; slot++) {
+            SkillSet jobSkills = skills[slot];
+            if (jobSkills == null || jobSkills.isEmpty()) {
+                continue;
+            }
+            int overlap = jobSkills.intersectionSize(dense);
+            if (overlap == 0) {
+                continue;
+            }
+            double score = scorer.score(overlap, jobSkills.cardinality(), queryCardinality, postedEpochSeconds[slot]);
+            if (heap.size() < k) {
+                heap.add(new Hit(ids[slot], score, overlap));
+            } else if (score > heap.peek().score) {
+                heap.poll();
+                heap.add(new Hit(ids[slot], score, overlap));
+            }
+        }
+        return heap;
+    }
+
+    private static PriorityQueue<Hit> merge(PriorityQueue<Hit> a, PriorityQueue<Hit> b, int k) {
+        PriorityQueue<Hit> merged = new PriorityQueue<>(k + 1, WORST_FIRST);
+        merged.addAll(a);
+        for (Hit hit : b) {
+            merged.add(hit);
+            if (merged.size() > k) {
+                merged.poll();
+            }
+        }
+        while (merged.size() > k) {
+            merged.poll();
+        }
+        return merged;
+    }
+
+    private int allocateSlot() {
+        if (!freeSlots.isEmpty()) {
+            return freeSlots.remove(freeSlots.size() - 1);
+        }
+        if (slotCount == skills.length) {
+            int capacity = skills.length * 2;
+            skills = Arrays.copyOf(skills, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            postedEpochSeconds = Arrays.copyOf(postedEpochSeconds, capacity);
+        }
+        return slotCount++;
+    }
+
+    @FunctionalInterface
+    public interface Scorer {
+        double score(int overlap, int jobCardinality, int queryCardinality, long postedEpochSecond);
+    }
+
+    public static class Hit {
+        private final long id;
+        private final double score;
+        private final int overlap;
+
+        public Hit(long id, double score, int overlap) {
+            this.id = id;
+            this.score = score;
+            this.overlap = overlap;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public int getOverlap() {
+            return overlap;
+        }
+    }
+}
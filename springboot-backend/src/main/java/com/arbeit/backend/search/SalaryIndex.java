@@ -0,0 +1,132 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Salary bands of the active catalog, one interval tree per currency.
+// Jobs with hideSalary set or without any salary figure are never indexed.
+@Component
+public class SalaryIndex {
+
+    private final JobCatalog jobCatalog;
+    private final Map<String, IntervalTree> treesByCurrency = new HashMap<>();
+    private final Map<Long, Band> bandsById = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SalaryIndex(JobCatalog jobCatalog) {
+        this.jobCatalog = jobCatalog;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (Job job : jobCatalog.all()) {
+            put(job);
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        if (event.isActive()) {
+            put(event.getJob());
+        } else {
+            remove(event.getJob().getId());
+        }
+    }
+
+    // currencies are normalized values; an empty collection means every currency
+    public Roaring64Bitmap overlapping(Collection<String> currencies, double from, double to) {
+        Roaring64Bitmap matches = new Roaring64Bitmap();
+        lock.readLock().lock();
+        try {
+            if (currencies == null || currencies.isEmpty()) {
+                for (IntervalTree tree : treesByCurrency.values()) {
+                    tree.overlapping(from, to, matches::addLong);
+                }
+            } else {
+                for (String currency : currencies) {
+                    IntervalTree tree = treesByCurrency.get(currency);
+                    if (tree != null) {
+                        tree.overlapping(from, to, matches::addLong);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    private void put(Job job) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(job.getId());
+
+            Double min = job.getSalaryMin();
+            Double max = job.getSalaryMax();
+            if (job.isHideSalary() || (min == null && max == null)) {
+                return;
+            }
+            // A single figure is treated as a point band
+            double low = min != null ? min : max;
+            double high = max != null ? max : min;
+            if (low > high) {
+                double swap = low;
+                low = high;
+                high = swap;
+            }
+
+            String currency = JobFilter.normalize(job.getSalaryCurrency());
+            if (currency == null) {
+                currency = "usd";
+            }
+            treesByCurrency.computeIfAbsent(currency, k -> new IntervalTree()).insert(job.getId(), low, high);
+            bandsById.put(job.getId(), new Band(currency, low));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(long id) {
+        Band band = bandsById.remove(id);
+        if (band == null) {
+            return;
+        }
+        IntervalTree tree = treesByCurrency.get(band.currency);
+        tree.delete(id, band.low);
+        if (tree.size() == 0) {
+            treesByCurrency.remove(band.currency);
+        }
+    }
+
+    private static class Band {
+        private final String currency;
+        private final double low;
+
+        private Band(String currency, double low) {
+            this.currency = currency;
+            this.low = low;
+        }
+    }
+}
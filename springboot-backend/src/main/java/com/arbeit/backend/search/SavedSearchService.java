@@ -0,0 +1,245 @@
+package com.arbeit.backend.search;
+
+import com.arbeit.backend.dto.SavedSearchDTO;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.model.JobAlert;
+import com.arbeit.backend.model.SavedSearch;
+import com.arbeit.backend.repository.JobAlertRepository;
+import com.arbeit.backend.repository.SavedSearchRepository;
+import com.arbeit.backend.service.JobService;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Saved searches and their alert inbox. Stored queries live in a QueryPercolator; every created or edited
+// active job is matched against it and the hits are queued, then written to job_alerts in multi-row batches
+// by a scheduled delivery run instead of one insert per match on the request thread.
+@Service
+public class SavedSearchService {
+
+    private static final String INSERT_SQL = "INSERT INTO job_alerts (user_email, saved_search_id, job_id, job_title, "
+            + "company_name, seen, matched_date) VALUES (?, ?, ?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE id = id";
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final JobAlertRepository jobAlertRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxSearchesPerUser;
+    private final int deliveryBatchSize;
+    private final QueryPercolator percolator = new QueryPercolator();
+    private final Map<Long, String> owners = new ConcurrentHashMap<>(); // saved search id -> user email
+    private final ConcurrentLinkedQueue<JobAlert> pending = new ConcurrentLinkedQueue<>();
+
+    public SavedSearchService(SavedSearchRepository savedSearchRepository,
+                              JobAlertRepository jobAlertRepository, JdbcTemplate jdbcTemplate,
+                              @Value("${app.alerts.max-saved-searches:20}") int maxSearchesPerUser,
+                              @Value("${app.alerts.delivery-batch-size:500}") int deliveryBatchSize) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.jobAlertRepository = jobAlertRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxSearchesPerUser = maxSearchesPerUser;
+        this.deliveryBatchSize = deliveryBatchSize;
+    }
+
+    @PostConstruct
+    public void buildIndex() {
+        for (SavedSearch search : savedSearchRepository.findAll()) {
+            index(search);
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobChangedEvent.Type type = event.getType();
+        if ((type != JobChangedEvent.Type.CREATED && type != JobChangedEvent.Type.UPDATED) || !event.isActive()) {
+            return;
+        }
+        Job job = event.getJob();
+        Map<String, String> facets = new HashMap<>();
+        for (Map.Entry<String, String> entry : JobFacetService.facetValues(job).entrySet()) {
+            facets.put(entry.getKey(), JobFilter.normalize(entry.getValue()));
+        }
+        // A hidden salary is not searchable live (SalaryIndex skips it), so it cannot satisfy a saved band either
+        List<Long> matches = job.isHideSalary()
+                ? percolator.match(jobTerms(job), facets, null, null)
+                : percolator.match(jobTerms(job), facets, job.getSalaryMin(), job.getSalaryMax());
+        LocalDateTime now = LocalDateTime.now();
+        for (Long searchId : matches) {
+            String owner = owners.get(searchId);
+            if (owner != null) {
+                pending.add(new JobAlert(owner, searchId, job, now));
+            }
+        }
+    }
+
+    public List<SavedSearch> getSavedSearches(String userEmail) {
+        return savedSearchRepository.findByUserEmailOrderByCreatedAtDesc(userEmail);
+    }
+
+    public SavedSearch createSavedSearch(String userEmail, SavedSearchDTO dto) {
+        if (savedSearchRepository.countByUserEmail(userEmail) >= maxSearchesPerUser) {
+            throw new IllegalArgumentException("At most " + maxSearchesPerUser + " saved searches are allowed");
+        }
+        if (dto.getSalaryFrom() != null && dto.getSalaryTo() != null && dto.getSalaryFrom() > dto.getSalaryTo()) {
+            throw new IllegalArgumentException("salaryFrom must not exceed salaryTo");
+        }
+
+        List<String> facets = new ArrayList<>();
+        if (dto.getFacets() != null) {
+            for (Map.Entry<String, List<String>> entry : dto.getFacets().entrySet()) {
+                if (!JobFilter.FACET_FIELDS.contains(entry.getKey())) {
+                    throw new IllegalArgumentException("Unknown facet: " + entry.getKey());
+                }
+                if (entry.getValue() == null) {
+                    continue;
+                }
+                for (String value : entry.getValue()) {
+                    String normalized = JobFilter.normalize(value);
+                    if (normalized != null) {
+                        facets.add(entry.getKey() + ":" + normalized);
+                    }
+                }
+            }
+        }
+        String keywords = dto.getKeywords() != null ? dto.getKeywords().trim() : null;
+        if (TextAnalyzer.tokenize(keywords).isEmpty() && facets.isEmpty()
+                && dto.getSalaryFrom() == null && dto.getSalaryTo() == null) {
+            throw new IllegalArgumentException("A saved search needs keywords, facets or a salary range");
+        }
+
+        String name = dto.getName() != null && !dto.getName().isBlank() ? dto.getName().trim() : keywords;
+        SavedSearch search = new SavedSearch(userEmail, name);
+        search.setKeywords(keywords);
+        search.setFacets(facets);
+        search.setSalaryFrom(dto.getSalaryFrom());
+        search.setSalaryTo(dto.getSalaryTo());
+
+        SavedSearch saved = savedSearchRepository.save(search);
+        index(saved);
+        return saved;
+    }
+
+    public boolean deleteSavedSearch(Long id, String userEmail) {
+        Optional<SavedSearch> search = savedSearchRepository.findByIdAndUserEmail(id, userEmail);
+        if (search.isEmpty()) {
+            return false;
+        }
+        percolator.remove(id);
+        owners.remove(id);
+        jobAlertRepository.deleteBySavedSearchId(id);
+        savedSearchRepository.delete(search.get());
+        return true;
+    }
+
+    public List<JobAlert> getAlerts(String userEmail, Integer limit) {
+        int pageSize = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        return jobAlertRepository.findByUserEmailOrderByIdDesc(userEmail, PageRequest.of(0, pageSize));
+    }
+
+    public long countUnseenAlerts(String userEmail) {
+        return jobAlertRepository.countByUserEmailAndSeenFalse(userEmail);
+    }
+
+    public int markAlertsSeen(String userEmail) {
+        return jobAlertRepository.markAllSeen(userEmail);
+    }
+
+    // Drains the queue in batches of multi-row inserts. Pairs already in the inbox (an edited job matching again,
+    // or the same scheduled publish percolated on every instance) hit the unique key and are left as they are.
+    // If the database is unreachable the batch goes back on the queue for the next run; any other failure is
+    // retried row by row so one bad alert does not take its batch with it.
+    @Scheduled(fixedDelayString = "${app.alerts.delivery-interval-ms:10000}")
+    public void deliverPendingAlerts() {
+        while (!pending.isEmpty()) {
+            Map<String, JobAlert> batch = new LinkedHashMap<>();
+            JobAlert alert;
+            while (batch.size() < deliveryBatchSize && (alert = pending.poll()) != null) {
+                batch.putIfAbsent(alert.getSavedSearchId() + ":" + alert.getJobId(), alert);
+            }
+            // Searches deleted while their alerts were queued have nothing left to deliver to
+            batch.values().removeIf(queued -> !owners.containsKey(queued.getSavedSearchId()));
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            List<Object[]> rows = new ArrayList<>(batch.size());
+            for (JobAlert queued : batch.values()) {
+                rows.add(new Object[]{queued.getUserEmail(), queued.getSavedSearchId(), queued.getJobId(),
+                        queued.getJobTitle(), queued.getCompanyName(), queued.isSeen(), queued.getMatchedDate()});
+            }
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException e) {
+                pending.addAll(batch.values());
+                return;
+            } catch (DataAccessException e) {
+                for (Object[] row : rows) {
+                    try {
+                        jdbcTemplate.update(INSERT_SQL, row);
+                    } catch (TransientDataAccessException | RecoverableDataAccessException
+                             | DataAccessResourceFailureException | CannotCreateTransactionException retry) {
+                        pending.addAll(batch.values());
+                        return;
+                    } catch (DataAccessException rejected) {
+                        // This alert cannot be stored; the rest of the batch still goes out
+                    }
+                }
+            }
+        }
+    }
+
+    private void index(SavedSearch search) {
+        Map<String, Set<String>> facets = new HashMap<>();
+        if (search.getFacets() != null) {
+            for (String facet : search.getFacets()) {
+                int separator = facet.indexOf(':');
+                if (separator > 0) {
+                    facets.computeIfAbsent(facet.substring(0, separator), k -> new HashSet<>())
+                            .add(facet.substring(separator + 1));
+                }
+            }
+        }
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(search.getKeywords()));
+        owners.put(search.getId(), search.getUserEmail());
+        percolator.put(search.getId(), terms, facets, search.getSalaryFrom(), search.getSalaryTo());
+    }
+
+    // Same fields that JobSearchService indexes, so a saved search matches what a live search would find
+    private static Set<String> jobTerms(Job job) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(TextAnalyzer.tokenize(job.getTitle()));
+        terms.addAll(TextAnalyzer.tokenize(job.getDepartment()));
+        terms.addAll(TextAnalyzer.tokenize(job.getDescription()));
+        terms.addAll(TextAnalyzer.tokenize(job.getRequirements()));
+        terms.addAll(TextAnalyzer.tokenize(job.getQualification()));
+        if (job.getSkillsRequired() != null) {
+            for (String skill : job.getSkillsRequired()) {
+                terms.addAll(TextAnalyzer.tokenize(skill));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,48 @@
+package com.arbeit.backend.search;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Dictionary-encodes normalised skill names to dense int ids. Ids are never reused, so bitsets built
+// against an older dictionary stay valid as new skills are added.
+public class SkillDictionary {
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int idOf(String skill) {
+        String normalized = JobFilter.normalize(skill);
+        if (normalized == null) {
+            return -1;
+        }
+        return ids.computeIfAbsent(normalized, k -> nextId.getAndIncrement());
+    }
+
+    // Lookup without registering; unknown skills cannot match any job
+    public int lookup(String skill) {
+        String normalized = JobFilter.normalize(skill);
+        if (normalized == null) {
+            return -1;
+        }
+        return ids.getOrDefault(normalized, -1);
+    }
+
+    public SkillSet encode(Collection<String> skills, boolean register) {
+        SkillSet.Builder builder = new SkillSet.Builder();
+        if (skills != null) {
+            for (String skill : skills) {
+                int id = register ? idOf(skill) : lookup(skill);
+                if (id >= 0) {
+                    builder.add(id);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return ids.size();
+    }
+}
@@ -0,0 +1,78 @@
+package com.arbeit.backend.search;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Sparse bitset over skill ids: only the non-zero 64-bit words are kept, as sorted (wordIndex, word)
+// pairs. A job needing five skills costs a few words no matter how large the dictionary grows.
+public final class SkillSet {
+
+    static final SkillSet EMPTY = new SkillSet(new int[0], new long[0], 0);
+
+    private final int[] wordIndexes;
+    private final long[] words;
+    private final int cardinality;
+
+    private SkillSet(int[] wordIndexes, long[] words, int cardinality) {
+        this.wordIndexes = wordIndexes;
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    // Dense form, used for the query side so each job word is a single array probe
+    public long[] toDense() {
+        if (wordIndexes.length == 0) {
+            return new long[0];
+        }
+        long[] dense = new long[wordIndexes[wordIndexes.length - 1] + 1];
+        for (int i = 0; i < wordIndexes.length; i++) {
+            dense[wordIndexes[i]] = words[i];
+        }
+        return dense;
+    }
+
+    public int intersectionSize(long[] dense) {
+        int count = 0;
+        for (int i = 0; i < wordIndexes.length; i++) {
+            int index = wordIndexes[i];
+            if (index < dense.length) {
+                count += Long.bitCount(words[i] & dense[index]);
+            }
+        }
+        return count;
+    }
+
+    public static class Builder {
+        private final TreeMap<Integer, Long> words = new TreeMap<>();
+
+        public Builder add(int id) {
+            words.merge(id >>> 6, 1L << (id & 63), (a, b) -> a | b);
+            return this;
+        }
+
+        public SkillSet build() {
+            if (words.isEmpty()) {
+                return EMPTY;
+            }
+            int[] indexes = new int[words.size()];
+            long[] values = new long[words.size()];
+            int cardinality = 0;
+            int i = 0;
+            for (Map.Entry<Integer, Long> entry : words.entrySet()) {
+                indexes[i] = entry.getKey();
+                values[i] = entry.getValue();
+                cardinality += Long.bitCount(entry.getValue());
+                i++;
+            }
+            return new SkillSet(indexes, values, cardinality);
+        }
+    }
+}
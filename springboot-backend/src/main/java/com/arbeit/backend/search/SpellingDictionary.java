@@ -0,0 +1,344 @@
+package com.arbeit.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Symmetric-delete spelling dictionary (SymSpell). Every vocabulary term registers the variants obtained
+// by deleting up to MAX_EDIT_DISTANCE characters from its first PREFIX_LENGTH characters; a misspelling
+// generates its own delete variants and any shared variant yields a candidate, which is then checked
+// with a bounded Damerau-Levenshtein distance.
+//
+// Variants are stored as 64-bit hashes in open-addressing arrays rather than strings, and lookups reuse
+// per-thread scratch buffers, so a query allocates little beyond its result. The vocabulary is capped at
+// maxTerms; terms that arrive once the cap is reached are still searchable, just not correctable.
+public class SpellingDictionary {
+
+    public static final int MAX_EDIT_DISTANCE = 2;
+    private static final int PREFIX_LENGTH = 7;
+    private static final int MIN_TERM_LENGTH = 3;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int maxTerms;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    // Vocabulary; ids of terms whose count dropped to zero stay allocated until the next compaction
+    private final Map<String, Integer> ids = new HashMap<>();
+    private String[] terms = new String[256];
+    private int[] counts = new int[256];
+    private int termCount;
+    private int liveTerms;
+
+    // Delete-variant hash -> chain of term ids
+    private long[] slotKeys = new long[1024];
+    private int[] slotHeads = new int[1024];
+    private int usedSlots;
+    private int[] entryTerms = new int[1024];
+    private int[] entryNext = new int[1024];
+    private int entryCount;
+
+    public SpellingDictionary(int maxTerms) {
+        this.maxTerms = maxTerms;
+        Arrays.fill(slotHeads, -1);
+    }
+
+    // Applies a document change: counts for removed terms drop, counts for added terms rise
+    public void update(Collection<String> removed, Collection<String> added) {
+        lock.writeLock().lock();
+        try {
+            for (String term : removed) {
+                Integer id = ids.get(term);
+                if (id != null && counts[id] > 0 && --counts[id] == 0) {
+                    liveTerms--;
+                }
+            }
+            for (String term : added) {
+                if (term.length() < MIN_TERM_LENGTH) {
+                    continue;
+                }
+                Integer id = ids.get(term);
+                if (id == null) {
+                    if (termCount >= maxTerms) {
+                        compactIfWorthwhile();
+                        if (termCount >= maxTerms) {
+                            continue;
+                        }
+                    }
+                    id = register(term);
+                }
+                if (counts[id]++ == 0) {
+                    liveTerms++;
+                }
+            }
+            compactIfWorthwhile();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Closest known terms to word, nearest first and then most frequent; empty when nothing is in range
+    public List<String> suggestions(String word, int limit) {
+        if (word.length() < MIN_TERM_LENGTH) {
+            return List.of();
+        }
+        int maxDistance = word.length() <= 4 ? 1 : MAX_EDIT_DISTANCE;
+
+        lock.readLock().lock();
+        try {
+            Scratch buffers = scratch.get();
+            buffers.begin(termCount);
+            int prefixLength = Math.min(word.length(), PREFIX_LENGTH);
+
+            List<Suggestion> found = new ArrayList<>();
+            forEachDeleteHash(word, prefixLength, maxDistance, hash -> {
+                int slot = findSlot(hash);
+                if (slotKeys[slot] != hash || slotHeads[slot] < 0) {
+                    return;
+                }
+                for (int entry = slotHeads[slot]; entry >= 0; entry = entryNext[entry]) {
+                    int id = entryTerms[entry];
+                    if (counts[id] == 0 || !buffers.markVisited(id)) {
+                        continue;
+                    }
+                    String candidate = terms[id];
+                    if (Math.abs(candidate.length() - word.length()) > maxDistance) {
+                        continue;
+                    }
+                    int distance = buffers.distance(word, candidate, maxDistance);
+                    if (distance <= maxDistance) {
+                        found.add(new Suggestion(candidate, distance, counts[id]));
+                    }
+                }
+            });
+
+            found.sort((a, b) -> a.distance != b.distance
+                    ? Integer.compare(a.distance, b.distance)
+                    : Integer.compare(b.count, a.count));
+            List<String> suggestions = new ArrayList<>(Math.min(limit, found.size()));
+            for (int i = 0; i < found.size() && suggestions.size() < limit; i++) {
+                if (found.get(i).distance > 0) {
+                    suggestions.add(found.get(i).term);
+                }
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveTerms;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int register(String term) {
+        int id = termCount++;
+        if (id == terms.length) {
+            terms = Arrays.copyOf(terms, id * 2);
+            counts = Arrays.copyOf(counts, id * 2);
+        }
+        terms[id] = term;
+        ids.put(term, id);
+
+        // The same variant can arise from different deletions ("aab" -> "ab"); index it once per term
+        Set<Long> seen = new HashSet<>();
+        forEachDeleteHash(term, Math.min(term.length(), PREFIX_LENGTH), MAX_EDIT_DISTANCE, hash -> {
+            if (seen.add(hash)) {
+                addEntry(hash, id);
+            }
+        });
+        return id;
+    }
+
+    // Rebuilds without dead terms once they make up more than half of the allocated ids
+    private void compactIfWorthwhile() {
+        int dead = termCount - liveTerms;
+        if (dead < 1024 || dead < liveTerms) {
+            return;
+        }
+        String[] oldTerms = terms;
+        int[] oldCounts = counts;
+        int oldTermCount = termCount;
+
+        ids.clear();
+        terms = new String[Math.max(256, liveTerms * 2)];
+        counts = new int[terms.length];
+        termCount = 0;
+        slotKeys = new long[1024];
+        slotHeads = new int[1024];
+        Arrays.fill(slotHeads, -1);
+        usedSlots = 0;
+        entryCount = 0;
+
+        for (int i = 0; i < oldTermCount; i++) {
+            if (oldCounts[i] > 0) {
+                int id = register(oldTerms[i]);
+                counts[id] = oldCounts[i];
+            }
+        }
+    }
+
+    private void addEntry(long hash, int termId) {
+        if ((usedSlots + 1) * 2 > slotKeys.length) {
+            resizeSlots();
+        }
+        int slot = findSlot(hash);
+        if (slotHeads[slot] < 0) {
+            slotKeys[slot] = hash;
+            usedSlots++;
+        }
+        if (entryCount == entryTerms.length) {
+            entryTerms = Arrays.copyOf(entryTerms, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        entryTerms[entryCount] = termId;
+        entryNext[entryCount] = slotHeads[slot];
+        slotHeads[slot] = entryCount++;
+    }
+
+    // Linear probing; returns the slot holding hash or the empty slot where it would go
+    private int findSlot(long hash) {
+        int mask = slotKeys.length - 1;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (slotHeads[slot] >= 0 && slotKeys[slot] != hash) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resizeSlots() {
+        long[] oldKeys = slotKeys;
+        int[] oldHeads = slotHeads;
+        slotKeys = new long[oldKeys.length * 2];
+        slotHeads = new int[oldKeys.length * 2];
+        Arrays.fill(slotHeads, -1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] >= 0) {
+                int slot = findSlot(oldKeys[i]);
+                slotKeys[slot] = oldKeys[i];
+                slotHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+
+    // Hashes the word's prefix with zero, one or two characters skipped, without building the strings
+    private static void forEachDeleteHash(String word, int prefixLength, int maxDistance, HashConsumer consumer) {
+        consumer.accept(hash(word, prefixLength, -1, -1));
+        for (int i = 0; i < prefixLength; i++) {
+            consumer.accept(hash(word, prefixLength, i, -1));
+            if (maxDistance > 1) {
+                for (int j = i + 1; j < prefixLength; j++) {
+                    consumer.accept(hash(word, prefixLength, i, j));
+                }
+            }
+        }
+    }
+
+    private static long hash(String word, int prefixLength, int skipA, int skipB) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < prefixLength; i++) {
+            if (i != skipA && i != skipB) {
+                hash = (hash ^ word.charAt(i)) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    @FunctionalInterface
+    private interface HashConsumer {
+        void accept(long hash);
+    }
+
+    private static class Suggestion {
+        private final String term;
+        private final int distance;
+        private final int count;
+
+        private Suggestion(String term, int distance, int count) {
+            this.term = term;
+            this.distance = distance;
+            this.count = count;
+        }
+    }
+
+    // Per-thread reusable buffers: visit stamps for candidate de-duplication and distance matrix rows
+    private static class Scratch {
+        private int[] visited = new int[256];
+        private int stamp;
+        private int[] previousRow = new int[64];
+        private int[] row = new int[64];
+        private int[] nextRow = new int[64];
+
+        private void begin(int termCount) {
+            if (visited.length < termCount) {
+                visited = new int[Math.max(termCount, visited.length * 2)];
+                stamp = 0;
+            }
+            if (++stamp == Integer.MAX_VALUE) {
+                Arrays.fill(visited, 0);
+                stamp = 1;
+            }
+        }
+
+        private boolean markVisited(int id) {
+            if (visited[id] == stamp) {
+                return false;
+            }
+            visited[id] = stamp;
+            return true;
+        }
+
+        // Optimal string alignment distance; gives up early once every cell in a row exceeds the bound
+        private int distance(String a, String b, int bound) {
+            int columns = b.length() + 1;
+            if (row.length < columns) {
+                previousRow = new int[columns * 2];
+                row = new int[columns * 2];
+                nextRow = new int[columns * 2];
+            }
+            int[] twoBack = previousRow;
+            int[] oneBack = row;
+            int[] current = nextRow;
+            for (int j = 0; j < columns; j++) {
+                oneBack[j] = j;
+            }
+            for (int i = 1; i <= a.length(); i++) {
+                current[0] = i;
+                int rowMinimum = i;
+                char ca = a.charAt(i - 1);
+                for (int j = 1; j < columns; j++) {
+                    char cb = b.charAt(j - 1);
+                    int cost = ca == cb ? 0 : 1;
+                    int value = Math.min(Math.min(oneBack[j] + 1, current[j - 1] + 1), oneBack[j - 1] + cost);
+                    if (i > 1 && j > 1 && ca == b.charAt(j - 2) && a.charAt(i - 2) == cb) {
+                        value = Math.min(value, twoBack[j - 2] + 1);
+                    }
+                    current[j] = value;
+                    rowMinimum = Math.min(rowMinimum, value);
+                }
+                if (rowMinimum > bound) {
+                    return bound + 1;
+                }
+                int[] recycled = twoBack;
+                twoBack = oneBack;
+                oneBack = current;
+                current = recycled;
+            }
+            return oneBack[columns - 1];
+        }
+    }
+}
@@ -41,8 +41,15 @@ public class SecurityConfig {
                 .requestMatchers("/auth/**").permitAll()
                 .requestMatchers("/auth/business/**").permitAll()
                 .requestMatchers(HttpMethod.GET, "/jobs").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/stream").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/search").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/suggest").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/trending").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/filter").permitAll()
+                .requestMatchers(HttpMethod.GET, "/jobs/nearby").permitAll()
                 .requestMatchers(HttpMethod.POST, "/jobs").permitAll() // For fetching specific job
                 .requestMatchers(HttpMethod.POST, "/applications").permitAll()
+                .requestMatchers("/applications/async").permitAll()
                 .requestMatchers("/mentorship/**").permitAll()
                 .requestMatchers("/project/**").permitAll()
                 .requestMatchers("/actuator/health").permitAll() // Health check endpoint
@@ -53,6 +60,9 @@ public class SecurityConfig {
                 // User-only endpoints (profiles, etc.)
                 .requestMatchers(HttpMethod.GET, "/profile").hasAnyRole("USER", "BUSINESS")
                 .requestMatchers(HttpMethod.PUT, "/profile").hasAnyRole("USER", "BUSINESS")
+                .requestMatchers(HttpMethod.GET, "/profile/recommendations").hasRole("USER")
+                .requestMatchers("/profile/searches").hasRole("USER")
+                .requestMatchers("/profile/alerts", "/profile/alerts/seen").hasRole("USER")
 
                 // Admin endpoints (if needed in future)
                 // .requestMatchers("/api/admin/**").hasRole("ADMIN")
@@ -82,7 +92,7 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
         configuration.setAllowCredentials(true);
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
@@ -0,0 +1,163 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.repository.ApplicationRepository;
+import com.arbeit.backend.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Job.applicants without per-application row locks. Submissions bump an in-memory LongAdder (itself striped
+// across cells, so a hot job does not contend); a periodic flush applies all deltas as one JDBC batch of
+// relative "applicants = applicants + ?" UPDATEs, which are safe alongside other instances doing the same.
+// A reconciliation pass compares the counts with the applications table and repairs lasting drift.
+@Service
+public class ApplicantCounter {
+
+    private static final String INCREMENT_SQL = "UPDATE jobs SET applicants = applicants + ? WHERE job_id = ?";
+    private static final String RECONCILE_LOCK = "job-applicants-reconcile";
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterLock clusterLock;
+    private final long settleMs;
+    private final Map<String, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public ApplicantCounter(JobRepository jobRepository, ApplicationRepository applicationRepository,
+                            JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                            ClusterLock clusterLock,
+                            @Value("${app.jobs.applicants.flush-interval-ms:2000}") long flushIntervalMs) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.clusterLock = clusterLock;
+        this.settleMs = 2 * flushIntervalMs;
+    }
+
+    public void increment(String jobId) {
+        pending.computeIfAbsent(jobId, k -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.applicants.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        for (Map.Entry<String, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta != 0) {
+                deltas.put(entry.getKey(), delta);
+            } else if (pending.remove(entry.getKey(), entry.getValue())) {
+                // An increment racing with the removal lands here; reconciliation covers the rare miss after it
+                long late = entry.getValue().sumThenReset();
+                if (late != 0) {
+                    deltas.put(entry.getKey(), late);
+                }
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((jobId, delta) -> rows.add(new Object[]{delta, jobId}));
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, rows);
+        } catch (RuntimeException e) {
+            // Not applied; hand the deltas back for the next flush
+            deltas.forEach((jobId, delta) -> pending.computeIfAbsent(jobId, k -> new LongAdder()).add(delta));
+            throw e;
+        }
+        announce(deltas.keySet());
+    }
+
+    // Brings every job's counter back to its real number of applications. A submission can be committed while
+    // its delta still sits in some instance's adders, so each job is sampled twice, a couple of flushes apart,
+    // and only corrected if neither its applications nor its counter moved in between: any delta in flight at
+    // the first pass would have been flushed by the second. The correction is relative, and instances take
+    // turns under the cluster lock instead of repeating each other.
+    @Scheduled(fixedDelayString = "${app.jobs.applicants.reconcile-interval-ms:3600000}",
+               initialDelayString = "${app.jobs.applicants.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        Map<String, Sample> first = clusterLock.withLock(RECONCILE_LOCK, this::sample);
+        try {
+            Thread.sleep(settleMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        List<String> corrected = clusterLock.withLock(RECONCILE_LOCK, () -> {
+            List<Object[]> rows = new ArrayList<>();
+            List<String> jobIds = new ArrayList<>();
+            sample().forEach((jobId, current) -> {
+                Sample earlier = first.get(jobId);
+                long drift = current.drift();
+                if (drift != 0 && earlier != null && earlier.applications() == current.applications()
+                        && earlier.stored() == current.stored()) {
+                    rows.add(new Object[]{drift, jobId});
+                    jobIds.add(jobId);
+                }
+            });
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INCREMENT_SQL, rows);
+            }
+            return jobIds;
+        });
+        if (!corrected.isEmpty()) {
+            announce(corrected);
+        }
+    }
+
+    // Per job: applications, stored counter and this instance's unflushed deltas. The local deltas are read
+    // first and flushes are held off until both table reads, which share the caller's transaction and so one
+    // snapshot, are done.
+    private Map<String, Sample> sample() {
+        Map<String, Sample> samples = new HashMap<>();
+        synchronized (this) {
+            pending.forEach((jobId, delta) -> samples.put(jobId, new Sample(0, 0, delta.sum())));
+            for (Object[] row : applicationRepository.countGroupByJobId()) {
+                samples.merge((String) row[0], new Sample(((Number) row[1]).longValue(), 0, 0), Sample::plus);
+            }
+            for (Object[] row : jobRepository.findApplicantCounts()) {
+                samples.merge((String) row[0], new Sample(0, ((Number) row[1]).longValue(), 0), Sample::plus);
+            }
+        }
+        return samples;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Caches and the in-memory catalog pick the new counts up from the reloaded rows
+    private void announce(Collection<String> jobIds) {
+        for (Job job : jobRepository.findByJobIdIn(jobIds)) {
+            eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.APPLICANTS_CHANGED, job));
+        }
+    }
+
+    private record Sample(long applications, long stored, long unflushed) {
+
+        private long drift() {
+            return applications - stored - unflushed;
+        }
+
+        private Sample plus(Sample other) {
+            return new Sample(applications + other.applications, stored + other.stored, unflushed + other.unflushed);
+        }
+    }
+}
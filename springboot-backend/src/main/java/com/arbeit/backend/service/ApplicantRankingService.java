@@ -0,0 +1,155 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.dto.CursorPage;
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Application;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.model.User;
+import com.arbeit.backend.repository.ApplicationRepository;
+import com.arbeit.backend.repository.JobRepository;
+import com.arbeit.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Keeps Application.matchScore up to date so the ranked shortlist is a plain indexed read. Rescoring after a
+// job edit runs on a background thread and writes only the score column, so it never overwrites a status,
+// rating or note saved while it ran.
+@Service
+public class ApplicantRankingService {
+
+    private static final String SCORE_SQL = "UPDATE applications SET match_score = ? WHERE id = ?";
+
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final ApplicantScorer applicantScorer;
+    private final JdbcTemplate jdbcTemplate;
+    private final Set<String> queued = ConcurrentHashMap.newKeySet(); // jobIds waiting for a rescore
+    private final ExecutorService rescorer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "applicant-rescore");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ApplicantRankingService(ApplicationRepository applicationRepository, JobRepository jobRepository,
+                                   UserRepository userRepository, ApplicantScorer applicantScorer,
+                                   JdbcTemplate jdbcTemplate) {
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.userRepository = userRepository;
+        this.applicantScorer = applicantScorer;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Called before a new application is saved
+    public void score(Job job, Application application) {
+        User user = application.getEmail() != null
+                ? userRepository.findByEmail(application.getEmail()).orElse(null)
+                : null;
+        application.setMatchScore(applicantScorer.score(job, application, user));
+    }
+
+    // Only edits to the scored fields trigger a rescore; counter updates and scheduled publishes or closes do
+    // not. Repeated edits of a job while its rescore is waiting are folded into that one rescore, which reads
+    // the job as it is when it runs.
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() != JobChangedEvent.Type.UPDATED || !event.scoringInputsChanged()) {
+            return;
+        }
+        String jobId = event.getJob().getJobId();
+        if (queued.add(jobId)) {
+            rescorer.execute(() -> {
+                queued.remove(jobId);
+                jobRepository.findByJobId(jobId)
+                        .ifPresent(job -> rescore(job, applicationRepository.findByJobId(jobId)));
+            });
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        rescorer.shutdownNow();
+    }
+
+    // Backfills rows written before scores existed
+    @EventListener(ApplicationReadyEvent.class)
+    public void scoreUnscored() {
+        Map<String, List<Application>> byJob = new HashMap<>();
+        for (Application application : applicationRepository.findByMatchScoreIsNull()) {
+            byJob.computeIfAbsent(application.getJobId(), k -> new ArrayList<>()).add(application);
+        }
+        for (Map.Entry<String, List<Application>> entry : byJob.entrySet()) {
+            jobRepository.findByJobId(entry.getKey()).ifPresent(job -> rescore(job, entry.getValue()));
+        }
+    }
+
+    // Empty when the job does not exist or belongs to another company
+    public Optional<CursorPage<Application>> getRankedApplicants(String jobId, String companyEmail,
+                                                                 String cursor, Integer limit) {
+        Optional<Job> jobOpt = jobRepository.findByJobId(jobId);
+        if (jobOpt.isEmpty() || !jobOpt.get().getCompanyEmail().equals(companyEmail)) {
+            return Optional.empty();
+        }
+
+        int pageSize = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        // Fetch one extra row to find out whether another page exists
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Application> applications;
+        if (cursor == null || cursor.isBlank()) {
+            applications = applicationRepository.findByJobIdOrderByMatchScoreDescIdDesc(jobId, pageRequest);
+        } else {
+            ScoreCursor position = ScoreCursor.decode(cursor);
+            applications = applicationRepository.findByJobIdAfterScoreCursor(
+                    jobId, position.getScore(), position.getId(), pageRequest);
+        }
+
+        String nextCursor = null;
+        if (applications.size() > pageSize) {
+            applications = applications.subList(0, pageSize);
+            Application last = applications.get(pageSize - 1);
+            double score = last.getMatchScore() != null ? last.getMatchScore() : 0;
+            nextCursor = new ScoreCursor(score, last.getId()).encode();
+        }
+        return Optional.of(new CursorPage<>(applications, nextCursor));
+    }
+
+    private void rescore(Job job, List<Application> applications) {
+        if (applications.isEmpty()) {
+            return;
+        }
+        Set<String> emails = new HashSet<>();
+        for (Application application : applications) {
+            if (application.getEmail() != null) {
+                emails.add(application.getEmail());
+            }
+        }
+        Map<String, User> usersByEmail = new HashMap<>();
+        for (User user : userRepository.findByEmailIn(emails)) {
+            usersByEmail.put(user.getEmail(), user);
+        }
+
+        List<Object[]> rows = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            User user = application.getEmail() != null ? usersByEmail.get(application.getEmail()) : null;
+            rows.add(new Object[]{applicantScorer.score(job, application, user), application.getId()});
+        }
+        jdbcTemplate.batchUpdate(SCORE_SQL, rows);
+    }
+}
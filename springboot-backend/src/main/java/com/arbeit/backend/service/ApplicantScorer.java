@@ -0,0 +1,169 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.model.Application;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.model.User;
+import com.arbeit.backend.search.JobFilter;
+import com.arbeit.backend.search.TextAnalyzer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Scores an applicant against a job on a 0-100 scale. Only the criteria the job actually specifies
+// take part, so a posting without a qualification line is not penalised for it.
+@Component
+public class ApplicantScorer {
+
+    private static final double SKILLS_WEIGHT = 0.6;
+    private static final double QUALIFICATION_WEIGHT = 0.2;
+    private static final double EXPERIENCE_WEIGHT = 0.2;
+
+    // "5 years", "3+ yrs", "2-3 years": the first number is taken as the lower bound
+    private static final Pattern YEARS = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(?:\\+|-\\s*\\d+(?:\\.\\d+)?)?\\s*(?:years?|yrs?)\\b");
+
+    public double score(Job job, Application application, User user) {
+        Candidate candidate = new Candidate(application, user);
+
+        double weighted = 0;
+        double totalWeight = 0;
+
+        List<String> skills = job.getSkillsRequired();
+        if (skills != null && !skills.isEmpty()) {
+            int matched = 0;
+            int required = 0;
+            for (String skill : skills) {
+                String normalized = JobFilter.normalize(skill);
+                if (normalized == null) {
+                    continue;
+                }
+                required++;
+                if (candidate.hasSkill(normalized)) {
+                    matched++;
+                }
+            }
+            if (required > 0) {
+                weighted += SKILLS_WEIGHT * matched / required;
+                totalWeight += SKILLS_WEIGHT;
+            }
+        }
+
+        Set<String> qualificationTerms = new HashSet<>(TextAnalyzer.tokenize(job.getQualification()));
+        if (!qualificationTerms.isEmpty()) {
+            weighted += QUALIFICATION_WEIGHT * candidate.educationOverlap(qualificationTerms);
+            totalWeight += QUALIFICATION_WEIGHT;
+        }
+
+        Double requiredYears = years(job.getRequirements());
+        if (requiredYears == null) {
+            requiredYears = years(job.getDescription());
+        }
+        if (requiredYears != null && requiredYears > 0) {
+            Double candidateYears = candidate.years();
+            weighted += EXPERIENCE_WEIGHT * (candidateYears == null ? 0 : Math.min(1, candidateYears / requiredYears));
+            totalWeight += EXPERIENCE_WEIGHT;
+        }
+
+        return totalWeight == 0 ? 0 : Math.round(1000 * weighted / totalWeight) / 10.0;
+    }
+
+    // The job fields score() reads; applicants only need rescoring when these change
+    public static List<Object> inputs(Job job) {
+        List<String> skills = job.getSkillsRequired() != null ? new ArrayList<>(job.getSkillsRequired()) : null;
+        return Arrays.asList(skills, job.getQualification(), job.getRequirements(), job.getDescription());
+    }
+
+    private static Double years(String text) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = YEARS.matcher(text.toLowerCase(Locale.ROOT));
+        return matcher.find() ? Double.valueOf(matcher.group(1)) : null;
+    }
+
+    // Everything known about the applicant: the application itself plus the linked profile, if any
+    private static class Candidate {
+        private final Set<String> declaredSkills = new HashSet<>();
+        private final Set<String> terms = new HashSet<>();
+        private final String text;
+        private final Set<String> educationTerms = new HashSet<>();
+        private final Double years;
+
+        private Candidate(Application application, User user) {
+            StringBuilder builder = new StringBuilder();
+            append(builder, application.getExperience());
+            append(builder, application.getCurrentJobTitle());
+            append(builder, application.getEducation());
+            append(builder, application.getCoverLetter());
+            educationTerms.addAll(TextAnalyzer.tokenize(application.getEducation()));
+
+            Double profileYears = null;
+            if (user != null) {
+                if (user.getSkills() != null) {
+                    for (String skill : user.getSkills()) {
+                        String normalized = JobFilter.normalize(skill);
+                        if (normalized != null) {
+                            declaredSkills.add(normalized);
+                        }
+                    }
+                }
+                append(builder, user.getExperience());
+                append(builder, user.getCurrentJobTitle());
+                append(builder, user.getEducation());
+                educationTerms.addAll(TextAnalyzer.tokenize(user.getEducation()));
+                profileYears = ApplicantScorer.years(user.getExperience());
+            }
+
+            List<String> tokens = TextAnalyzer.tokenize(builder.toString());
+            text = " " + String.join(" ", tokens) + " ";
+            terms.addAll(tokens);
+            Double applicationYears = ApplicantScorer.years(application.getExperience());
+            if (applicationYears == null || profileYears == null) {
+                years = applicationYears != null ? applicationYears : profileYears;
+            } else {
+                years = Math.max(applicationYears, profileYears);
+            }
+        }
+
+        // Declared profile skills match exactly; free text matches the skill's tokens as a phrase
+        private boolean hasSkill(String normalizedSkill) {
+            if (declaredSkills.contains(normalizedSkill)) {
+                return true;
+            }
+            List<String> tokens = TextAnalyzer.tokenize(normalizedSkill);
+            if (tokens.isEmpty()) {
+                return false;
+            }
+            if (tokens.size() == 1) {
+                return terms.contains(tokens.get(0));
+            }
+            return text.contains(" " + String.join(" ", tokens) + " ");
+        }
+
+        private double educationOverlap(Set<String> qualificationTerms) {
+            int matched = 0;
+            for (String term : qualificationTerms) {
+                if (educationTerms.contains(term)) {
+                    matched++;
+                }
+            }
+            return (double) matched / qualificationTerms.size();
+        }
+
+        private Double years() {
+            return years;
+        }
+
+        private static void append(StringBuilder builder, String value) {
+            if (value != null) {
+                builder.append(value).append('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.cache.BoundedCache;
+import com.arbeit.backend.dto.ApplicationDTO;
+import com.arbeit.backend.dto.ApplicationIntakeStatus;
+import com.arbeit.backend.model.Application;
+import com.arbeit.backend.search.JobCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Asynchronous application intake. A submission is checked against the in-memory job catalog, its resume is
+// written and the prepared application is appended to a local journal before the request returns 202; a
+// small pool of workers then saves the queue to MySQL in batches. The userId is allocated up front, so a
+// batch replayed after a crash skips the rows that already made it.
+//
+// The queue is bounded: once capacity submissions are waiting, new ones are refused and the caller is
+// expected to retry later. Outcomes stay queryable by tracking id while they are in the status cache.
+@Service
+public class ApplicationIntakeService {
+
+    private static final long RETRY_DELAY_MS = 5_000;
+    private static final int COMPACT_AFTER = 10_000;
+    private static final String JOB_INACTIVE = "Job not found or not active";
+
+    private final ApplicationService applicationService;
+    private final JobCatalog jobCatalog;
+    private final IdAllocator idAllocator;
+    private final ObjectMapper objectMapper;
+    private final String journalPath;
+    private final int capacity;
+    private final int workerCount;
+    private final int batchSize;
+
+    private final LinkedBlockingQueue<IntakeJournal.Entry> queue = new LinkedBlockingQueue<>();
+    private final Map<String, IntakeJournal.Entry> pending = new ConcurrentHashMap<>(); // trackingId -> queued entry
+    private final BoundedCache<String, ApplicationIntakeStatus> completed;
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger completedSinceCompaction = new AtomicInteger();
+    private final List<Thread> workers = new ArrayList<>();
+    private IntakeJournal journal;
+
+    public ApplicationIntakeService(ApplicationService applicationService, JobCatalog jobCatalog,
+                                    IdAllocator idAllocator, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                    @Value("${app.applications.intake.journal-path:data/application-intake.log}") String journalPath,
+                                    @Value("${app.applications.intake.capacity:10000}") int capacity,
+                                    @Value("${app.applications.intake.workers:2}") int workerCount,
+                                    @Value("${app.applications.intake.batch-size:100}") int batchSize,
+                                    @Value("${app.applications.intake.status-entries:100000}") int statusEntries) {
+        this.applicationService = applicationService;
+        this.jobCatalog = jobCatalog;
+        this.idAllocator = idAllocator;
+        this.objectMapper = objectMapper;
+        this.journalPath = journalPath;
+        this.capacity = capacity;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.completed = new BoundedCache<>("application-intake-status", statusEntries, meterRegistry);
+
+        Gauge.builder("applications.intake.queued", depth, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // Re-queues whatever the journal holds without an outcome, then drops the finished entries from it
+    @PostConstruct
+    public void recover() throws IOException {
+        journal = new IntakeJournal(Paths.get(journalPath), objectMapper);
+        Map<String, IntakeJournal.Entry> queued = new LinkedHashMap<>();
+        journal.replay(entry -> {
+            if (IntakeJournal.QUEUED.equals(entry.type())) {
+                queued.put(entry.trackingId(), entry);
+            } else {
+                queued.remove(entry.trackingId());
+                completed.put(entry.trackingId(), new ApplicationIntakeStatus(entry.trackingId(), entry.status(),
+                        entry.userId(), entry.message()));
+            }
+        });
+        for (IntakeJournal.Entry entry : queued.values()) {
+            pending.put(entry.trackingId(), entry);
+            queue.add(entry);
+            depth.incrementAndGet();
+        }
+        journal.compact(() -> new ArrayList<>(pending.values()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::run, "application-intake-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // Anything not yet saved stays in the journal and is picked up again on the next start
+    @PreDestroy
+    public void stop() throws IOException {
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        journal.close();
+    }
+
+    // Empty when the queue is full
+    public Optional<ApplicationIntakeStatus> submit(ApplicationDTO applicationDTO) throws IOException {
+        if (applicationDTO.getJobId() == null || jobCatalog.getByJobId(applicationDTO.getJobId()) == null) {
+            throw new IllegalArgumentException(JOB_INACTIVE);
+        }
+        if (isBlank(applicationDTO.getFullName()) || isBlank(applicationDTO.getEmail())) {
+            throw new IllegalArgumentException("Full name and email are required");
+        }
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            return Optional.empty();
+        }
+
+        String trackingId = UUID.randomUUID().toString();
+        IntakeJournal.Entry entry;
+        try {
+            Application application = applicationService.newApplication(applicationDTO,
+                    idAllocator.nextId(IdAllocator.Sequence.APPLICATION));
+            applicationService.storeResume(application, applicationDTO.getResume());
+            entry = new IntakeJournal.Entry(IntakeJournal.QUEUED, trackingId, application.getUserId(), null, null,
+                    application);
+            // Registered before the append so a concurrent compaction cannot leave it out of the journal
+            pending.put(trackingId, entry);
+            journal.append(entry);
+        } catch (IOException | RuntimeException e) {
+            pending.remove(trackingId);
+            depth.decrementAndGet();
+            throw e;
+        }
+        queue.add(entry);
+        return Optional.of(new ApplicationIntakeStatus(trackingId, ApplicationIntakeStatus.QUEUED, null, null));
+    }
+
+    public Optional<ApplicationIntakeStatus> getStatus(String trackingId) {
+        if (pending.containsKey(trackingId)) {
+            return Optional.of(new ApplicationIntakeStatus(trackingId, ApplicationIntakeStatus.QUEUED, null, null));
+        }
+        return Optional.ofNullable(completed.get(trackingId));
+    }
+
+    private void run() {
+        List<IntakeJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            batch.clear();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+
+            Map<String, String> rejected;
+            try {
+                rejected = save(batch);
+            } catch (RuntimeException e) {
+                // Database unavailable or similar; the batch is replay-safe, so put it back and wait
+                queue.addAll(batch);
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                continue;
+            }
+            complete(batch, rejected);
+        }
+    }
+
+    // Saves the batch in one transaction. If that fails for a reason other than the database being unreachable,
+    // the entries are saved one at a time so a bad entry is turned away on its own instead of holding back the
+    // rest. Returns the rejected userIds with the reason; throws only for failures worth retrying.
+    private Map<String, String> save(List<IntakeJournal.Entry> batch) {
+        Map<String, String> rejected = new HashMap<>();
+        try {
+            for (String userId : applicationService.saveQueued(applications(batch))) {
+                rejected.put(userId, JOB_INACTIVE);
+            }
+            return rejected;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                throw e;
+            }
+        }
+        for (IntakeJournal.Entry entry : batch) {
+            try {
+                if (!applicationService.saveQueued(applications(List.of(entry))).isEmpty()) {
+                    rejected.put(entry.userId(), JOB_INACTIVE);
+                }
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    throw e;
+                }
+                rejected.put(entry.userId(), "Application could not be saved");
+            }
+        }
+        return rejected;
+    }
+
+    // A failed attempt may have assigned ids to rows that were rolled back
+    private static List<Application> applications(List<IntakeJournal.Entry> entries) {
+        List<Application> applications = new ArrayList<>(entries.size());
+        for (IntakeJournal.Entry entry : entries) {
+            entry.application().setId(null);
+            applications.add(entry.application());
+        }
+        return applications;
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException || e instanceof TransactionException;
+    }
+
+    private void complete(List<IntakeJournal.Entry> batch, Map<String, String> rejected) {
+        List<IntakeJournal.Entry> outcomes = new ArrayList<>(batch.size());
+        for (IntakeJournal.Entry entry : batch) {
+            outcomes.add(rejected.containsKey(entry.userId())
+                    ? new IntakeJournal.Entry(IntakeJournal.DONE, entry.trackingId(), null,
+                            ApplicationIntakeStatus.REJECTED, rejected.get(entry.userId()), null)
+                    : new IntakeJournal.Entry(IntakeJournal.DONE, entry.trackingId(), entry.userId(),
+                            ApplicationIntakeStatus.ACCEPTED, null, null));
+        }
+        try {
+            journal.append(outcomes);
+        } catch (IOException e) {
+            // The entries stay queued in the journal; a replay finds their rows and skips them
+        }
+        for (IntakeJournal.Entry outcome : outcomes) {
+            completed.put(outcome.trackingId(), new ApplicationIntakeStatus(outcome.trackingId(), outcome.status(),
+                    outcome.userId(), outcome.message()));
+            pending.remove(outcome.trackingId());
+        }
+        depth.addAndGet(-batch.size());
+
+        if (completedSinceCompaction.addAndGet(batch.size()) >= COMPACT_AFTER) {
+            completedSinceCompaction.set(0);
+            try {
+                journal.compact(() -> new ArrayList<>(pending.values()));
+            } catch (IOException e) {
+                // Keep appending to the current file; the next compaction tries again
+            }
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
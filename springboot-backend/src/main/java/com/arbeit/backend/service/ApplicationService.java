@@ -1,39 +1,78 @@
 package com.arbeit.backend.service;
 
+import com.arbeit.backend.analytics.JobViewService;
 import com.arbeit.backend.dto.ApplicationDTO;
+import com.arbeit.backend.dto.ApplicationSummary;
+import com.arbeit.backend.dto.CursorPage;
 import com.arbeit.backend.model.Application;
 import com.arbeit.backend.model.Job;
 import com.arbeit.backend.repository.ApplicationRepository;
 import com.arbeit.backend.repository.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class ApplicationService {
 
+    public static final int MAX_BULK_UPDATE_IDS = 1000;
+    // Ids per UPDATE ... WHERE id IN (...) statement
+    private static final int BULK_UPDATE_CHUNK_SIZE = 500;
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final JobService jobService;
     private final FileService fileService;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final ApplicantRankingService applicantRankingService;
+    private final JobViewService jobViewService;
+    private final IdAllocator idAllocator;
+    private final ApplicationStatsService applicationStatsService;
+    private final TransactionTemplate transactionTemplate;
 
     public ApplicationService(ApplicationRepository applicationRepository,
                             JobRepository jobRepository,
                             JobService jobService,
-                            FileService fileService) {
+                            FileService fileService,
+                            JsonArrayStreamer jsonArrayStreamer,
+                            ApplicantRankingService applicantRankingService,
+                            JobViewService jobViewService,
+                            IdAllocator idAllocator,
+                            ApplicationStatsService applicationStatsService,
+                            PlatformTransactionManager transactionManager) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.jobService = jobService;
         this.fileService = fileService;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.applicantRankingService = applicantRankingService;
+        this.jobViewService = jobViewService;
+        this.idAllocator = idAllocator;
+        this.applicationStatsService = applicationStatsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public Application submitApplication(ApplicationDTO applicationDTO) {
@@ -44,11 +83,74 @@ public class ApplicationService {
         }
 
         // Check if user already applied for this job
-        String userId = generateUniqueUserId();
+        String userId = idAllocator.nextId(IdAllocator.Sequence.APPLICATION);
         if (applicationRepository.existsByUserIdAndJobId(userId, applicationDTO.getJobId())) {
             throw new RuntimeException("You have already applied for this job");
         }
 
+        Application application = newApplication(applicationDTO, userId);
+        storeResume(application, applicationDTO.getResume());
+
+        application.setCompanyEmail(jobOpt.get().getCompanyEmail());
+        applicantRankingService.score(jobOpt.get(), application);
+        Application savedApplication = transactionTemplate.execute(tx -> {
+            Application saved = applicationRepository.save(application);
+            applicationStatsService.recordSubmitted(List.of(saved));
+            return saved;
+        });
+
+        // Increment job applicant count
+        jobService.incrementApplicantCount(applicationDTO.getJobId());
+        jobViewService.recordApplication(applicationDTO.getJobId());
+
+        return savedApplication;
+    }
+
+    // Saves a batch taken from the async intake queue in one transaction. Returns the userIds turned away because
+    // their job is no longer active; entries whose userId is already stored (a replayed batch) are skipped.
+    public Set<String> saveQueued(List<Application> applications) {
+        Set<String> jobIds = new HashSet<>();
+        List<String> userIds = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            jobIds.add(application.getJobId());
+            userIds.add(application.getUserId());
+        }
+        Map<String, Job> activeJobs = new HashMap<>();
+        for (Job job : jobRepository.findByJobIdIn(jobIds)) {
+            if ("Active".equals(job.getStatus())) {
+                activeJobs.put(job.getJobId(), job);
+            }
+        }
+        Set<String> stored = new HashSet<>(applicationRepository.findExistingUserIds(userIds));
+
+        Set<String> rejected = new HashSet<>();
+        List<Application> toSave = new ArrayList<>(applications.size());
+        for (Application application : applications) {
+            if (stored.contains(application.getUserId())) {
+                continue;
+            }
+            Job job = activeJobs.get(application.getJobId());
+            if (job == null) {
+                rejected.add(application.getUserId());
+                continue;
+            }
+            application.setCompanyEmail(job.getCompanyEmail());
+            applicantRankingService.score(job, application);
+            toSave.add(application);
+        }
+
+        transactionTemplate.executeWithoutResult(tx -> {
+            applicationRepository.saveAll(toSave);
+            applicationStatsService.recordSubmitted(toSave);
+        });
+        for (Application application : toSave) {
+            jobService.incrementApplicantCount(application.getJobId());
+            jobViewService.recordApplication(application.getJobId());
+        }
+        return rejected;
+    }
+
+    public Application newApplication(ApplicationDTO applicationDTO, String userId) {
         Application application = new Application();
         application.setUserId(userId);
         application.setJobId(applicationDTO.getJobId());
@@ -65,11 +167,14 @@ public class ApplicationService {
         application.setStatus("Pending");
         application.setAppliedDate(LocalDateTime.now());
         application.setUpdatedDate(LocalDateTime.now());
+        return application;
+    }
 
+    public void storeResume(Application application, MultipartFile resume) {
         // Handle resume upload if provided
-        if (applicationDTO.getResume() != null && !applicationDTO.getResume().isEmpty()) {
+        if (resume != null && !resume.isEmpty()) {
             try {
-                String resumeFileName = saveResumeToFileSystem(applicationDTO.getResume(), userId);
+                String resumeFileName = saveResumeToFileSystem(resume, application.getUserId());
                 application.setResumeFileName(resumeFileName);
                 application.setResumeId(resumeFileName); // Store filename as ID for simplicity
             } catch (Exception e) {
@@ -77,34 +182,103 @@ public class ApplicationService {
                 System.err.println("Failed to save resume: " + e.getMessage());
             }
         }
+    }
+
+    public List<Application> getAllApplications() {
+        return applicationRepository.findAllByOrderByAppliedDateDesc();
+    }
 
-        Application savedApplication = applicationRepository.save(application);
+    public List<ApplicationSummary> getAllApplicationSummaries() {
+        return applicationRepository.findAllSummaries();
+    }
 
-        // Increment job applicant count
-        jobService.incrementApplicantCount(applicationDTO.getJobId());
+    // A company's applications across all of its jobs, newest first, optionally narrowed by job, status,
+    // minimum rating and applied-date range [appliedFrom, appliedBefore)
+    public CursorPage<ApplicationSummary> getCompanyInbox(String companyEmail, String jobId, String status,
+                                                          Integer minRating, LocalDateTime appliedFrom,
+                                                          LocalDateTime appliedBefore, String cursor, Integer limit) {
+        int pageSize = limit == null ? JobService.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, JobService.MAX_PAGE_SIZE));
+        KeysetCursor position = cursor == null || cursor.isBlank() ? null : KeysetCursor.decode(cursor);
+        // Fetch one extra row to find out whether another page exists
+        List<ApplicationSummary> rows = applicationRepository.findInboxPage(companyEmail, blankToNull(jobId),
+                blankToNull(status), minRating, appliedFrom, appliedBefore,
+                position != null ? position.getTimestamp() : null, position != null ? position.getId() : null,
+                PageRequest.of(0, pageSize + 1));
 
-        return savedApplication;
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ApplicationSummary last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.appliedDate(), last.id()).encode();
+        }
+        return new CursorPage<>(rows, nextCursor);
     }
 
-    public List<Application> getAllApplications() {
-        return applicationRepository.findAllByOrderByAppliedDateDesc();
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCompanyEmails() {
+        applicationRepository.backfillCompanyEmails();
+    }
+
+    public void streamAllApplications(OutputStream out) {
+        jsonArrayStreamer.writeArray(out, applicationRepository::streamAllByOrderByAppliedDateDesc);
     }
 
     public Application updateApplicationStatus(Long applicationId, String status) {
-        Optional<Application> applicationOpt = applicationRepository.findById(applicationId);
-        if (applicationOpt.isEmpty()) {
-            throw new RuntimeException("Application not found");
-        }
+        // The row lock keeps the funnel delta in step with concurrent changes to the same application
+        return transactionTemplate.execute(tx -> {
+            Optional<Application> applicationOpt = applicationRepository.findLockedById(applicationId);
+            if (applicationOpt.isEmpty()) {
+                throw new RuntimeException("Application not found");
+            }
 
-        Application application = applicationOpt.get();
-        application.setStatus(status);
-        application.setUpdatedDate(LocalDateTime.now());
+            Application application = applicationOpt.get();
+            String previousStatus = application.getStatus();
+            application.setStatus(status);
+            application.setUpdatedDate(LocalDateTime.now());
 
-        if ("Under Review".equals(status) && application.getReviewedDate() == null) {
-            application.setReviewedDate(LocalDateTime.now());
+            if ("Under Review".equals(status) && application.getReviewedDate() == null) {
+                application.setReviewedDate(LocalDateTime.now());
+            }
+
+            Application saved = applicationRepository.save(application);
+            applicationStatsService.recordStatusChange(saved.getJobId(), saved.getCompanyEmail(), previousStatus, status);
+            return saved;
+        });
+    }
+
+    // One locking read and one UPDATE per chunk instead of a load and full save per application.
+    // Returns the outcome per id in request order: "Updated", or "Not found" when there is no such application
+    // or it belongs to another company.
+    public Map<Long, String> updateApplicationStatuses(String companyEmail, Collection<Long> applicationIds,
+                                                       String status) {
+        if (!ApplicationStatsService.FUNNEL_STATUSES.contains(status)) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        if (ids.size() > MAX_BULK_UPDATE_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_UPDATE_IDS + " applications can be updated at once");
         }
 
-        return applicationRepository.save(application);
+        Map<Long, String> results = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < ids.size(); from += BULK_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_UPDATE_CHUNK_SIZE));
+            Set<Long> existing = new HashSet<>();
+            transactionTemplate.executeWithoutResult(tx -> {
+                List<Object[]> previous = applicationRepository.lockStatusesByCompanyEmailAndIdIn(companyEmail, chunk);
+                for (Object[] row : previous) {
+                    existing.add(((Number) row[0]).longValue());
+                }
+                if (!existing.isEmpty()) {
+                    applicationRepository.updateStatuses(companyEmail, existing, status, now);
+                    applicationStatsService.recordStatusChanges(previous, status);
+                }
+            });
+            for (Long id : chunk) {
+                results.put(id, existing.contains(id) ? "Updated" : "Not found");
+            }
+        }
+        return results;
     }
 
     public List<Application> getApplicationsByJob(String jobId) {
@@ -115,6 +289,10 @@ public class ApplicationService {
         return applicationRepository.findByUserId(userId);
     }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
     private String saveResumeToFileSystem(MultipartFile resumeFile, String userId) throws IOException {
         // Create uploads/resumes directory if it doesn't exist
         Path uploadDir = Paths.get("uploads", "resumes");
@@ -135,14 +313,4 @@ public class ApplicationService {
 
         return fileName;
     }
-
-    private String generateUniqueUserId() {
-        String userId;
-        do {
-            // Generate a random 3-digit number
-            userId = String.valueOf(100 + (int)(Math.random() * 900));
-        } while (!applicationRepository.findByUserId(userId).isEmpty());
-
-        return userId;
-    }
 }
@@ -0,0 +1,180 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.dto.CompanyFunnel;
+import com.arbeit.backend.dto.JobFunnel;
+import com.arbeit.backend.dto.JobSummary;
+import com.arbeit.backend.model.Application;
+import com.arbeit.backend.repository.ApplicationRepository;
+import com.arbeit.backend.repository.ApplicationStatRepository;
+import com.arbeit.backend.repository.JobRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hiring funnel counts per job and application status, kept in application_stats. Every application insert
+// and status change applies its +1/-1 deltas as relative upserts inside the transaction that changes the
+// application, so the counts commit or roll back with it and concurrent writers never overwrite each other.
+// A periodic verifier recomputes the counts from the applications table and repairs any drift.
+@Service
+public class ApplicationStatsService {
+
+    public static final List<String> FUNNEL_STATUSES =
+            List.of("Pending", "Under Review", "Shortlisted", "Rejected", "Accepted");
+
+    private static final String VERIFY_LOCK = "application-stats-verify";
+
+    private static final String ADD_SQL = "INSERT INTO application_stats (job_id, status, company_email, applications) "
+            + "VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE applications = applications + VALUES(applications), "
+            + "company_email = COALESCE(company_email, VALUES(company_email))";
+
+    private final ApplicationStatRepository applicationStatRepository;
+    private final ApplicationRepository applicationRepository;
+    private final JobRepository jobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClusterLock clusterLock;
+    private final LongAdder corrections = new LongAdder();
+
+    public ApplicationStatsService(ApplicationStatRepository applicationStatRepository,
+                                   ApplicationRepository applicationRepository, JobRepository jobRepository,
+                                   JdbcTemplate jdbcTemplate, ClusterLock clusterLock, MeterRegistry meterRegistry) {
+        this.applicationStatRepository = applicationStatRepository;
+        this.applicationRepository = applicationRepository;
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.clusterLock = clusterLock;
+
+        FunctionCounter.builder("applications.stats.corrections", corrections, LongAdder::sum).register(meterRegistry);
+    }
+
+    // Call inside the transaction that inserts the applications
+    public void recordSubmitted(Collection<Application> applications) {
+        Map<Key, Long> deltas = new HashMap<>();
+        Map<String, String> companyByJob = new HashMap<>();
+        for (Application application : applications) {
+            if (application.getStatus() != null) {
+                deltas.merge(new Key(application.getJobId(), application.getStatus()), 1L, Long::sum);
+                companyByJob.put(application.getJobId(), application.getCompanyEmail());
+            }
+        }
+        apply(deltas, companyByJob);
+    }
+
+    // Call inside the transaction that changes the status
+    public void recordStatusChange(String jobId, String companyEmail, String from, String to) {
+        Map<Key, Long> deltas = new HashMap<>();
+        addTransition(deltas, jobId, from, to);
+        apply(deltas, companyEmail != null ? Map.of(jobId, companyEmail) : Map.of());
+    }
+
+    // Rows as returned by ApplicationRepository.lockStatusesByCompanyEmailAndIdIn, all moving to status
+    public void recordStatusChanges(List<Object[]> previous, String status) {
+        Map<Key, Long> deltas = new HashMap<>();
+        Map<String, String> companyByJob = new HashMap<>();
+        for (Object[] row : previous) {
+            String jobId = (String) row[1];
+            addTransition(deltas, jobId, (String) row[3], status);
+            if (row[2] != null) {
+                companyByJob.put(jobId, (String) row[2]);
+            }
+        }
+        apply(deltas, companyByJob);
+    }
+
+    // One read of the company's jobs and one of their funnel rows
+    public CompanyFunnel getCompanyFunnel(String companyEmail) {
+        Map<String, Map<String, Long>> countsByJob = new HashMap<>();
+        for (Object[] row : applicationStatRepository.findCountsByCompanyEmail(companyEmail)) {
+            countsByJob.computeIfAbsent((String) row[0], k -> new HashMap<>())
+                    .put((String) row[1], ((Number) row[2]).longValue());
+        }
+
+        Map<String, Long> companyCounts = emptyFunnel();
+        long companyTotal = 0;
+        List<JobFunnel> jobs = new ArrayList<>();
+        for (JobSummary job : jobRepository.findSummariesByCompanyEmail(companyEmail)) {
+            Map<String, Long> counts = emptyFunnel();
+            long total = 0;
+            for (Map.Entry<String, Long> entry : countsByJob.getOrDefault(job.jobId(), Map.of()).entrySet()) {
+                if (entry.getValue() != 0) {
+                    counts.merge(entry.getKey(), entry.getValue(), Long::sum);
+                    companyCounts.merge(entry.getKey(), entry.getValue(), Long::sum);
+                    total += entry.getValue();
+                }
+            }
+            companyTotal += total;
+            jobs.add(new JobFunnel(job.jobId(), job.title(), job.status(), counts, total));
+        }
+        return new CompanyFunnel(companyCounts, companyTotal, jobs);
+    }
+
+    // Both reads share one transaction, so they see the same snapshot; the differences are then applied as
+    // relative corrections, which leaves deltas committed in the meantime intact. Instances verify one at a
+    // time under the cluster lock, so each sees the corrections of the one before instead of repeating them.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.applications.stats.verify-interval-ms:3600000}",
+               initialDelayString = "${app.applications.stats.verify-interval-ms:3600000}")
+    public synchronized void verify() {
+        int drift = clusterLock.withLock(VERIFY_LOCK, () -> {
+            Map<String, String> companyByJob = new HashMap<>();
+            Map<Key, Long> differences = new HashMap<>();
+            for (Object[] row : applicationRepository.countGroupByJobIdAndStatus()) {
+                differences.merge(new Key((String) row[0], (String) row[2]), ((Number) row[3]).longValue(), Long::sum);
+                companyByJob.put((String) row[0], (String) row[1]);
+            }
+            for (Object[] row : applicationStatRepository.findAllCounts()) {
+                differences.merge(new Key((String) row[0], (String) row[1]), -((Number) row[2]).longValue(), Long::sum);
+            }
+            differences.values().removeIf(difference -> difference == 0);
+            apply(differences, companyByJob);
+            return differences.size();
+        });
+        corrections.add(drift);
+    }
+
+    private void addTransition(Map<Key, Long> deltas, String jobId, String from, String to) {
+        if (to.equals(from)) {
+            return;
+        }
+        if (from != null) {
+            deltas.merge(new Key(jobId, from), -1L, Long::sum);
+        }
+        deltas.merge(new Key(jobId, to), 1L, Long::sum);
+    }
+
+    private void apply(Map<Key, Long> deltas, Map<String, String> companyByJob) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        for (Map.Entry<Key, Long> delta : deltas.entrySet()) {
+            if (delta.getValue() != 0) {
+                Key key = delta.getKey();
+                rows.add(new Object[]{key.jobId(), key.status(), companyByJob.get(key.jobId()), delta.getValue()});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_SQL, rows);
+        }
+    }
+
+    // The standard stages in pipeline order, all starting at zero; custom statuses are appended as they appear
+    private static Map<String, Long> emptyFunnel() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String status : FUNNEL_STATUSES) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+
+    private record Key(String jobId, String status) {
+    }
+}
@@ -19,11 +19,14 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final IdAllocator idAllocator;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils,
+                       IdAllocator idAllocator) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtils = jwtUtils;
+        this.idAllocator = idAllocator;
     }
 
     public LoginResponse login(AuthRequest request) {
@@ -61,8 +64,7 @@ public class AuthService {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
 
-        // Generate unique user ID
-        user.setUserId(generateUniqueUserId());
+        user.setUserId(idAllocator.nextId(IdAllocator.Sequence.USER));
 
         User savedUser = userRepository.save(user);
 
@@ -79,14 +81,4 @@ public class AuthService {
 
         return newAccessToken;
     }
-
-    private String generateUniqueUserId() {
-        String userId;
-        do {
-            // Generate a random 3-digit number
-            userId = String.valueOf(100 + (int)(Math.random() * 900));
-        } while (userRepository.existsByUserId(userId));
-
-        return userId;
-    }
 }
@@ -4,9 +4,11 @@ import com.arbeit.backend.dto.AuthRequest;
 import com.arbeit.backend.dto.AuthResponse;
 import com.arbeit.backend.dto.BusinessRegistrationRequest;
 import com.arbeit.backend.dto.LoginResponse;
+import com.arbeit.backend.event.CompanyChangedEvent;
 import com.arbeit.backend.model.Company;
 import com.arbeit.backend.repository.CompanyRepository;
 import com.arbeit.backend.security.JwtUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -19,11 +21,16 @@ public class BusinessAuthService {
     private final CompanyRepository companyRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
+    private final IdAllocator idAllocator;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BusinessAuthService(CompanyRepository companyRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils) {
+    public BusinessAuthService(CompanyRepository companyRepository, PasswordEncoder passwordEncoder, JwtUtils jwtUtils,
+                               IdAllocator idAllocator, ApplicationEventPublisher eventPublisher) {
         this.companyRepository = companyRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtils = jwtUtils;
+        this.idAllocator = idAllocator;
+        this.eventPublisher = eventPublisher;
     }
 
     public LoginResponse login(AuthRequest request) {
@@ -69,10 +76,10 @@ public class BusinessAuthService {
         company.setCreatedAt(LocalDateTime.now());
         company.setUpdatedAt(LocalDateTime.now());
 
-        // Generate unique BID
-        company.setBid(generateUniqueBid());
+        company.setBid(idAllocator.nextId(IdAllocator.Sequence.BUSINESS));
 
         Company savedCompany = companyRepository.save(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany));
 
         return new AuthResponse("Business registered successfully", savedCompany.getBid(), savedCompany.getCompanyEmail(), savedCompany.getRole());
     }
@@ -87,14 +94,4 @@ public class BusinessAuthService {
 
         return newAccessToken;
     }
-
-    private String generateUniqueBid() {
-        String bid;
-        do {
-            // Generate a random 4-digit number prefixed with 'B'
-            bid = 'B' + String.format("%04d", (int)(Math.random() * 10000));
-        } while (companyRepository.existsByBid(bid));
-
-        return bid;
-    }
 }
@@ -0,0 +1,58 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.model.MaintenanceLock;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+// Mutual exclusion for maintenance jobs that every instance schedules (verifiers, reconcilers). The work runs
+// in a new transaction that first takes a row lock on its maintenance_locks row, so the instances take turns
+// and each one reads what the previous one committed. Unlike GET_LOCK this works on any database.
+@Service
+public class ClusterLock {
+
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate lockTransaction;
+
+    public ClusterLock(EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.entityManager = entityManager;
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Runs work while holding the lock, in the transaction that holds it
+    public <T> T withLock(String name, Supplier<T> work) {
+        create(name);
+        return lockTransaction.execute(status -> {
+            entityManager.find(MaintenanceLock.class, name, LockModeType.PESSIMISTIC_WRITE);
+            return work.get();
+        });
+    }
+
+    // Two instances creating the same missing row race on its primary key; the loser retries and finds it
+    private void create(String name) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < MAX_CREATE_ATTEMPTS; attempt++) {
+            try {
+                lockTransaction.executeWithoutResult(status -> {
+                    if (entityManager.find(MaintenanceLock.class, name) == null) {
+                        entityManager.persist(new MaintenanceLock(name));
+                    }
+                });
+                return;
+            } catch (PersistenceException | DataAccessException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+}
@@ -0,0 +1,126 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.model.IdSequence;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Hi/lo allocation of the public ids (user ids, application ids, J... job ids, B... business ids). Each node
+// leases a block of blockSize values from its id_sequences row under a row lock and then hands ids out from
+// memory, so allocation costs one short transaction per block and nodes never produce the same value.
+// Values only grow; once they outrun the historical width (3, 4 or 6 digits) the ids simply get longer.
+@Service
+public class IdAllocator {
+
+    public enum Sequence {
+        USER("users", "user_id", "", "%d", 100),
+        APPLICATION("applications", "user_id", "", "%d", 100),
+        JOB("jobs", "job_id", "J", "J%06d", 1),
+        BUSINESS("companies", "bid", "B", "B%04d", 1);
+
+        private final String table;
+        private final String column;
+        private final String prefix;
+        private final String format;
+        private final long firstValue;
+
+        Sequence(String table, String column, String prefix, String format, long firstValue) {
+            this.table = table;
+            this.column = column;
+            this.prefix = prefix;
+            this.format = format;
+            this.firstValue = firstValue;
+        }
+    }
+
+    private static final int MAX_LEASE_ATTEMPTS = 3;
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate leaseTransaction;
+    private final int blockSize;
+    private final Map<Sequence, Block> blocks = new EnumMap<>(Sequence.class);
+
+    public IdAllocator(EntityManager entityManager, JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.ids.block-size:100}") int blockSize) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        for (Sequence sequence : Sequence.values()) {
+            blocks.put(sequence, new Block());
+        }
+    }
+
+    public String nextId(Sequence sequence) {
+        Block block = blocks.get(sequence);
+        long value;
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                block.next = lease(sequence);
+                block.limit = block.next + blockSize;
+            }
+            value = block.next++;
+        }
+        return String.format(sequence.format, value);
+    }
+
+    // Returns the first value of a freshly leased block. Two nodes creating the same missing row race on
+    // its primary key; the loser retries and then finds the winner's row.
+    private long lease(Sequence sequence) {
+        RuntimeException failure = null;
+        for (int attempt = 0; attempt < MAX_LEASE_ATTEMPTS; attempt++) {
+            try {
+                Long start = leaseTransaction.execute(status -> {
+                    IdSequence row = entityManager.find(IdSequence.class, sequence.name(), LockModeType.PESSIMISTIC_WRITE);
+                    if (row == null) {
+                        row = new IdSequence(sequence.name(), seed(sequence));
+                        entityManager.persist(row);
+                    }
+                    long first = row.getNextValue();
+                    row.setNextValue(first + blockSize);
+                    return first;
+                });
+                return start;
+            } catch (PersistenceException | DataAccessException e) {
+                failure = e;
+            }
+        }
+        throw failure;
+    }
+
+    // First run only: continue after the largest id already handed out by the old random generators
+    private long seed(Sequence sequence) {
+        List<String> largest = jdbcTemplate.queryForList(
+                "SELECT " + sequence.column + " FROM " + sequence.table + " WHERE " + sequence.column + " IS NOT NULL "
+                        + "ORDER BY LENGTH(" + sequence.column + ") DESC, " + sequence.column + " DESC LIMIT 1",
+                String.class);
+        long seed = sequence.firstValue;
+        if (!largest.isEmpty() && largest.get(0).startsWith(sequence.prefix)) {
+            try {
+                seed = Math.max(seed, Long.parseLong(largest.get(0).substring(sequence.prefix.length())) + 1);
+            } catch (NumberFormatException e) {
+                // Not one of ours; keep the default starting point
+            }
+        }
+        return seed;
+    }
+
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,148 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.model.Application;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Append-only journal of the async application intake, one JSON line per entry. Appends from concurrent
+// requests are group-committed: whoever forces the file covers every line written before the force, so a
+// burst of submissions shares a handful of fsyncs. A torn last line (crash mid-write) is skipped on replay.
+public class IntakeJournal {
+
+    public static final String QUEUED = "queued";
+    public static final String DONE = "done";
+
+    // Queued entries carry the prepared application; done entries carry the outcome
+    public record Entry(String type, String trackingId, String userId, String status, String message,
+                        Application application) {
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final Object forceLock = new Object();
+    private FileChannel channel;
+    private long written; // guarded by this
+    private long forced; // guarded by forceLock
+
+    public IntakeJournal(Path path, ObjectMapper objectMapper) throws IOException {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = open();
+        terminateTornLine();
+    }
+
+    public void append(Entry entry) throws IOException {
+        append(List.of(entry));
+    }
+
+    // Returns once the entries are on disk
+    public void append(List<Entry> entries) throws IOException {
+        ByteBuffer lines = encode(entries);
+        long sequence;
+        synchronized (this) {
+            while (lines.hasRemaining()) {
+                channel.write(lines);
+            }
+            sequence = ++written;
+        }
+        synchronized (forceLock) {
+            if (forced < sequence) {
+                long upTo;
+                synchronized (this) {
+                    upTo = written;
+                }
+                channel.force(false);
+                forced = upTo;
+            }
+        }
+    }
+
+    public void replay(Consumer<Entry> consumer) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Entry entry;
+                try {
+                    entry = objectMapper.readValue(line, Entry.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                consumer.accept(entry);
+            }
+        }
+    }
+
+    // Replaces the journal with just the live entries. The snapshot is taken under the append lock, so an entry
+    // is either in it or appended to the new file afterwards.
+    public void compact(Supplier<Collection<Entry>> live) throws IOException {
+        synchronized (forceLock) {
+            synchronized (this) {
+                Path next = path.resolveSibling(path.getFileName() + ".compact");
+                try (FileChannel out = FileChannel.open(next, StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                    ByteBuffer lines = encode(live.get());
+                    while (lines.hasRemaining()) {
+                        out.write(lines);
+                    }
+                    out.force(true);
+                }
+                Files.move(next, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel.close();
+                channel = open();
+                forced = written;
+            }
+        }
+    }
+
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer encode(Collection<Entry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            lines.append(objectMapper.writeValueAsString(entry)).append('\n');
+        }
+        return ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // A crash mid-append leaves a partial last line; end it so the next entry starts on a line of its own
+    private void terminateTornLine() throws IOException {
+        long size = Files.size(path);
+        if (size == 0) {
+            return;
+        }
+        ByteBuffer last = ByteBuffer.allocate(1);
+        try (FileChannel reader = FileChannel.open(path, StandardOpenOption.READ)) {
+            reader.read(last, size - 1);
+        }
+        if (last.get(0) != '\n') {
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            channel.force(false);
+        }
+    }
+
+    private FileChannel open() throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
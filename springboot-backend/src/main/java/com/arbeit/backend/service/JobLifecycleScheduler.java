@@ -0,0 +1,207 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.event.JobChangedEvent;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.repository.JobRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+// Closes Active jobs at their closingDate and publishes Draft jobs at their publishDate. Transitions due
+// within the lookahead window sit in a DelayQueue; a single worker takes whatever is due, applies it with
+// one conditional bulk UPDATE per kind and then announces the jobs that actually changed.
+//
+// Every instance runs its own scheduler against the shared database. The UPDATEs only match rows still in
+// the source state, so the first instance to fire does the work and the rest find nothing to change, but
+// all of them reload the batch and publish the new state to their own in-memory indexes and caches.
+@Service
+public class JobLifecycleScheduler {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long RETRY_DELAY_MS = 30_000;
+
+    private final JobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long lookaheadMs;
+    private final DelayQueue<Transition> queue = new DelayQueue<>();
+    private final Map<String, Transition> scheduled = new ConcurrentHashMap<>(); // "<kind>:<jobId>" -> entry
+    private volatile Thread worker;
+
+    public JobLifecycleScheduler(JobRepository jobRepository, ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.jobs.lifecycle.refresh-ms:300000}") long refreshMs) {
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        // Twice the refresh interval, so a reload always overlaps the previous window
+        this.lookaheadMs = refreshMs * 2;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        loadUpcoming();
+        worker = new Thread(this::run, "job-lifecycle");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    // Also picks up dates written by other instances, which never reach this one as events
+    @Scheduled(fixedDelayString = "${app.jobs.lifecycle.refresh-ms:300000}",
+               initialDelayString = "${app.jobs.lifecycle.refresh-ms:300000}")
+    public void loadUpcoming() {
+        LocalDateTime until = LocalDateTime.now().plusNanos(lookaheadMs * 1_000_000);
+        for (Job job : jobRepository.findByStatusAndClosingDateLessThanEqual("Active", until)) {
+            schedule(Kind.CLOSE, job.getJobId(), toEpochMillis(job.getClosingDate()));
+        }
+        for (Job job : jobRepository.findByStatusAndPublishDateLessThanEqual("Draft", until)) {
+            schedule(Kind.PUBLISH, job.getJobId(), toEpochMillis(job.getPublishDate()));
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.affectsContent()) {
+            return;
+        }
+        Job job = event.getJob();
+        if (event.getType() == JobChangedEvent.Type.DELETED) {
+            cancel(Kind.CLOSE, job.getJobId());
+            cancel(Kind.PUBLISH, job.getJobId());
+            return;
+        }
+        LocalDateTime until = LocalDateTime.now().plusNanos(lookaheadMs * 1_000_000);
+        if ("Active".equals(job.getStatus()) && job.getClosingDate() != null && !job.getClosingDate().isAfter(until)) {
+            schedule(Kind.CLOSE, job.getJobId(), toEpochMillis(job.getClosingDate()));
+        }
+        if ("Draft".equals(job.getStatus()) && job.getPublishDate() != null && !job.getPublishDate().isAfter(until)) {
+            schedule(Kind.PUBLISH, job.getJobId(), toEpochMillis(job.getPublishDate()));
+        }
+    }
+
+    // A job whose date moved is re-queued; an unchanged date keeps the entry already queued
+    private synchronized void schedule(Kind kind, String jobId, long dueAtMillis) {
+        Transition transition = new Transition(kind, jobId, dueAtMillis);
+        Transition previous = scheduled.put(transition.key(), transition);
+        if (previous != null) {
+            if (previous.dueAtMillis == transition.dueAtMillis) {
+                scheduled.put(transition.key(), previous);
+                return;
+            }
+            queue.remove(previous);
+        }
+        queue.add(transition);
+    }
+
+    private synchronized void cancel(Kind kind, String jobId) {
+        Transition previous = scheduled.remove(kind + ":" + jobId);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Transition> batch = new ArrayList<>();
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, BATCH_SIZE - 1);
+            for (Transition transition : batch) {
+                scheduled.remove(transition.key(), transition);
+            }
+            try {
+                apply(batch);
+            } catch (RuntimeException e) {
+                // Database unavailable or similar; the UPDATEs are idempotent, so simply try again later
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MS;
+                for (Transition transition : batch) {
+                    schedule(transition.kind, transition.jobId, retryAt);
+                }
+            }
+        }
+    }
+
+    private void apply(List<Transition> batch) {
+        List<String> toClose = new ArrayList<>();
+        List<String> toPublish = new ArrayList<>();
+        for (Transition transition : batch) {
+            (transition.kind == Kind.CLOSE ? toClose : toPublish).add(transition.jobId);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!toClose.isEmpty()) {
+            jobRepository.closeExpired(toClose, now);
+            announce(toClose, "Closed");
+        }
+        if (!toPublish.isEmpty()) {
+            jobRepository.publishDue(toPublish, now);
+            announce(toPublish, "Active");
+        }
+    }
+
+    // Reloads the batch and publishes the jobs now in the target state, whichever instance moved them
+    private void announce(List<String> jobIds, String status) {
+        for (Job job : jobRepository.findByJobIdIn(jobIds)) {
+            if (status.equals(job.getStatus())) {
+                eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.UPDATED, job));
+            }
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private enum Kind {
+        CLOSE,
+        PUBLISH
+    }
+
+    private static class Transition implements Delayed {
+        private final Kind kind;
+        private final String jobId;
+        private final long dueAtMillis;
+
+        private Transition(Kind kind, String jobId, long dueAtMillis) {
+            this.kind = kind;
+            this.jobId = jobId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        private String key() {
+            return kind + ":" + jobId;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Transition) other).dueAtMillis);
+        }
+    }
+}
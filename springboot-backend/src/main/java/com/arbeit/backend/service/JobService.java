@@ -1,36 +1,116 @@
 package com.arbeit.backend.service;
 
+import com.arbeit.backend.cache.JobCache;
+import com.arbeit.backend.cache.JobJsonCache;
+import com.arbeit.backend.dto.CursorPage;
 import com.arbeit.backend.dto.JobDTO;
+import com.arbeit.backend.dto.JobSummary;
+import com.arbeit.backend.event.JobChangedEvent;
 import com.arbeit.backend.model.Company;
 import com.arbeit.backend.model.Job;
 import com.arbeit.backend.repository.CompanyRepository;
 import com.arbeit.backend.repository.JobRepository;
+import com.arbeit.backend.search.Gazetteer;
 import com.arbeit.backend.security.JwtUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 @Service
 public class JobService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final JobRepository jobRepository;
     private final CompanyRepository companyRepository;
     private final JwtUtils jwtUtils;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Gazetteer gazetteer;
+    private final JobCache jobCache;
+    private final JobJsonCache jobJsonCache;
+    private final JsonArrayStreamer jsonArrayStreamer;
+    private final ApplicantCounter applicantCounter;
+    private final IdAllocator idAllocator;
 
-    public JobService(JobRepository jobRepository, CompanyRepository companyRepository, JwtUtils jwtUtils) {
+    public JobService(JobRepository jobRepository, CompanyRepository companyRepository, JwtUtils jwtUtils,
+                      ApplicationEventPublisher eventPublisher, Gazetteer gazetteer, JobCache jobCache,
+                      JobJsonCache jobJsonCache, JsonArrayStreamer jsonArrayStreamer,
+                      ApplicantCounter applicantCounter, IdAllocator idAllocator) {
         this.jobRepository = jobRepository;
         this.companyRepository = companyRepository;
         this.jwtUtils = jwtUtils;
+        this.eventPublisher = eventPublisher;
+        this.gazetteer = gazetteer;
+        this.jobCache = jobCache;
+        this.jobJsonCache = jobJsonCache;
+        this.jsonArrayStreamer = jsonArrayStreamer;
+        this.applicantCounter = applicantCounter;
+        this.idAllocator = idAllocator;
+    }
+
+    public List<Job> getAllActiveJobs(String catalogVersion) {
+        return jobCache.getActiveJobs(catalogVersion, jobRepository::findActiveJobsSortedByPostedDate);
+    }
+
+    public void streamActiveJobs(OutputStream out) {
+        jsonArrayStreamer.writeArray(out, () -> jobRepository.streamByStatusOrderByPostedDateDesc("Active"));
+    }
+
+    public List<JobSummary> getActiveJobSummaries(String catalogVersion) {
+        return jobCache.getActiveJobSummaries(catalogVersion,
+                () -> jobRepository.findSummariesByStatus("Active", Pageable.unpaged()));
     }
 
-    public List<Job> getAllActiveJobs() {
-        return jobRepository.findActiveJobsSortedByPostedDate();
+    public CursorPage<Job> getActiveJobsPage(String cursor, Integer limit) {
+        return keysetPage(cursor, limit,
+                pageRequest -> jobRepository.findByStatusOrderByPostedDateDescIdDesc("Active", pageRequest),
+                (position, pageRequest) -> jobRepository.findByStatusAfterCursor(
+                        "Active", position.getTimestamp(), position.getId(), pageRequest),
+                last -> new KeysetCursor(last.getPostedDate(), last.getId()));
     }
 
-    public Optional<Job> getJobById(String jobId) {
-        return jobRepository.findActiveJobByJobId(jobId);
+    public CursorPage<JobSummary> getActiveJobSummariesPage(String cursor, Integer limit) {
+        return keysetPage(cursor, limit,
+                pageRequest -> jobRepository.findSummariesByStatus("Active", pageRequest),
+                (position, pageRequest) -> jobRepository.findSummariesByStatusAfterCursor(
+                        "Active", position.getTimestamp(), position.getId(), pageRequest),
+                last -> new KeysetCursor(last.postedDate(), last.id()));
+    }
+
+    private <T> CursorPage<T> keysetPage(String cursor, Integer limit,
+                                         Function<Pageable, List<T>> firstPage,
+                                         BiFunction<KeysetCursor, Pageable, List<T>> afterCursor,
+                                         Function<T, KeysetCursor> positionOf) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        // Fetch one extra row to find out whether another page exists
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<T> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = firstPage.apply(pageRequest);
+        } else {
+            rows = afterCursor.apply(KeysetCursor.decode(cursor), pageRequest);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = positionOf.apply(rows.get(pageSize - 1)).encode();
+        }
+        return new CursorPage<>(rows, nextCursor);
+    }
+
+    public Optional<JobJsonCache.SerializedJob> getSerializedJob(String jobId) {
+        return jobJsonCache.get(jobId, () -> jobRepository.findActiveJobByJobId(jobId));
     }
 
     public Job createJob(JobDTO jobDTO, String companyEmail) {
@@ -41,8 +121,15 @@ public class JobService {
 
         Company company = companyOpt.get();
 
+        LocalDateTime now = LocalDateTime.now();
+        boolean scheduled = jobDTO.getPublishDate() != null && jobDTO.getPublishDate().isAfter(now);
+        LocalDateTime goLive = scheduled ? jobDTO.getPublishDate() : now;
+        if (jobDTO.getClosingDate() != null && !jobDTO.getClosingDate().isAfter(goLive)) {
+            throw new IllegalArgumentException("closingDate must be after the publish date");
+        }
+
         Job job = new Job();
-        job.setJobId(generateUniqueJobId());
+        job.setJobId(idAllocator.nextId(IdAllocator.Sequence.JOB));
         job.setTitle(jobDTO.getTitle());
         job.setCompanyName(company.getCompanyName());
         job.setBusinessName(company.getCompanyName());
@@ -53,6 +140,7 @@ public class JobService {
         job.setState(jobDTO.getState());
         job.setCountry(jobDTO.getCountry());
         job.setRemoteWork(jobDTO.isRemoteWork());
+        job.setGeohash(gazetteer.locate(job).map(Gazetteer.Place::geohash).orElse(null));
         job.setJobType(jobDTO.getJobType());
         job.setDepartment(jobDTO.getDepartment());
         job.setDescription(jobDTO.getDescription());
@@ -67,18 +155,27 @@ public class JobService {
         job.setScreeningQuestions(jobDTO.getScreeningQuestions());
         job.setHiringProcess(jobDTO.getHiringProcess());
         job.setApplicationInstructions(jobDTO.getApplicationInstructions());
-        job.setStatus("Active");
+        job.setClosingDate(jobDTO.getClosingDate());
+        // Scheduled jobs stay in Draft until JobLifecycleScheduler publishes them
+        job.setPublishDate(scheduled ? jobDTO.getPublishDate() : null);
+        job.setStatus(scheduled ? "Draft" : "Active");
         job.setApplicants(0);
-        job.setPostedDate(LocalDateTime.now());
-        job.setUpdatedDate(LocalDateTime.now());
+        job.setPostedDate(goLive);
+        job.setUpdatedDate(now);
 
-        return jobRepository.save(job);
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.CREATED, savedJob));
+        return savedJob;
     }
 
     public List<Job> getCompanyJobs(String companyEmail) {
         return jobRepository.findByCompanyEmail(companyEmail);
     }
 
+    public List<JobSummary> getCompanyJobSummaries(String companyEmail) {
+        return jobRepository.findSummariesByCompanyEmail(companyEmail);
+    }
+
     public Optional<Job> updateJob(String jobId, JobDTO jobDTO, String companyEmail) {
         Optional<Job> jobOpt = jobRepository.findByJobId(jobId);
         if (jobOpt.isEmpty()) {
@@ -91,6 +188,21 @@ public class JobService {
         if (!job.getCompanyEmail().equals(companyEmail)) {
             throw new RuntimeException("Unauthorized to update this job");
         }
+        List<Object> scoringInputs = ApplicantScorer.inputs(job);
+
+        // Same go-live rule as createJob, checked only when the request moves one of the dates so that
+        // unrelated edits to a job past its closing date still go through
+        LocalDateTime now = LocalDateTime.now();
+        boolean movesPublishDate = jobDTO.getPublishDate() != null && "Draft".equals(job.getStatus());
+        if (jobDTO.getClosingDate() != null || movesPublishDate) {
+            LocalDateTime publishDate = movesPublishDate ? jobDTO.getPublishDate()
+                    : "Draft".equals(job.getStatus()) ? job.getPublishDate() : null;
+            LocalDateTime goLive = publishDate != null && publishDate.isAfter(now) ? publishDate : now;
+            LocalDateTime closingDate = jobDTO.getClosingDate() != null ? jobDTO.getClosingDate() : job.getClosingDate();
+            if (closingDate != null && !closingDate.isAfter(goLive)) {
+                throw new IllegalArgumentException("closingDate must be after the publish date");
+            }
+        }
 
         // Update fields
         if (jobDTO.getTitle() != null) job.setTitle(jobDTO.getTitle());
@@ -99,6 +211,7 @@ public class JobService {
         if (jobDTO.getState() != null) job.setState(jobDTO.getState());
         if (jobDTO.getCountry() != null) job.setCountry(jobDTO.getCountry());
         job.setRemoteWork(jobDTO.isRemoteWork());
+        job.setGeohash(gazetteer.locate(job).map(Gazetteer.Place::geohash).orElse(null));
         if (jobDTO.getJobType() != null) job.setJobType(jobDTO.getJobType());
         if (jobDTO.getDepartment() != null) job.setDepartment(jobDTO.getDepartment());
         if (jobDTO.getDescription() != null) job.setDescription(jobDTO.getDescription());
@@ -113,10 +226,19 @@ public class JobService {
         if (jobDTO.getScreeningQuestions() != null) job.setScreeningQuestions(jobDTO.getScreeningQuestions());
         if (jobDTO.getHiringProcess() != null) job.setHiringProcess(jobDTO.getHiringProcess());
         if (jobDTO.getApplicationInstructions() != null) job.setApplicationInstructions(jobDTO.getApplicationInstructions());
+        if (jobDTO.getClosingDate() != null) job.setClosingDate(jobDTO.getClosingDate());
+        // The publish time can only move while the job is still a draft
+        if (jobDTO.getPublishDate() != null && "Draft".equals(job.getStatus())) {
+            job.setPublishDate(jobDTO.getPublishDate());
+            job.setPostedDate(jobDTO.getPublishDate());
+        }
 
-        job.setUpdatedDate(LocalDateTime.now());
+        job.setUpdatedDate(now);
 
-        return Optional.of(jobRepository.save(job));
+        Job savedJob = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.UPDATED, savedJob,
+                !scoringInputs.equals(ApplicantScorer.inputs(savedJob))));
+        return Optional.of(savedJob);
     }
 
     public boolean deleteJob(String jobId, String companyEmail) {
@@ -133,25 +255,12 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(JobChangedEvent.Type.DELETED, job));
         return true;
     }
 
+    // Buffered in ApplicantCounter and written by its periodic flush, not per application
     public void incrementApplicantCount(String jobId) {
-        Optional<Job> jobOpt = jobRepository.findByJobId(jobId);
-        if (jobOpt.isPresent()) {
-            Job job = jobOpt.get();
-            job.setApplicants(job.getApplicants() + 1);
-            jobRepository.save(job);
-        }
-    }
-
-    private String generateUniqueJobId() {
-        String jobId;
-        do {
-            // Generate a random 6-digit number prefixed with 'J'
-            jobId = 'J' + String.format("%06d", (int)(Math.random() * 1000000));
-        } while (jobRepository.existsByJobId(jobId));
-
-        return jobId;
+        applicantCounter.increment(jobId);
     }
 }
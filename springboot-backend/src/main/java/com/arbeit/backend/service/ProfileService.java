@@ -2,10 +2,12 @@ package com.arbeit.backend.service;
 
 import com.arbeit.backend.dto.CompanyProfileDTO;
 import com.arbeit.backend.dto.UserProfileDTO;
+import com.arbeit.backend.event.CompanyChangedEvent;
 import com.arbeit.backend.model.Company;
 import com.arbeit.backend.model.User;
 import com.arbeit.backend.repository.CompanyRepository;
 import com.arbeit.backend.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -16,10 +18,13 @@ public class ProfileService {
 
     private final UserRepository userRepository;
     private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ProfileService(UserRepository userRepository, CompanyRepository companyRepository) {
+    public ProfileService(UserRepository userRepository, CompanyRepository companyRepository,
+                          ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.companyRepository = companyRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     // User Profile Operations
@@ -47,6 +52,7 @@ public class ProfileService {
         if (profileDTO.getCurrentJobTitle() != null) user.setCurrentJobTitle(profileDTO.getCurrentJobTitle());
         if (profileDTO.getCurrentCompany() != null) user.setCurrentCompany(profileDTO.getCurrentCompany());
         if (profileDTO.getExperience() != null) user.setExperience(profileDTO.getExperience());
+        if (profileDTO.getSkills() != null) user.setSkills(profileDTO.getSkills());
         if (profileDTO.getEducation() != null) user.setEducation(profileDTO.getEducation());
         if (profileDTO.getLinkedinUrl() != null) user.setLinkedinUrl(profileDTO.getLinkedinUrl());
         if (profileDTO.getGithubUrl() != null) user.setGithubUrl(profileDTO.getGithubUrl());
@@ -88,6 +94,8 @@ public class ProfileService {
 
         company.setUpdatedAt(LocalDateTime.now());
 
-        return Optional.of(companyRepository.save(company));
+        Company savedCompany = companyRepository.save(company);
+        eventPublisher.publishEvent(new CompanyChangedEvent(savedCompany));
+        return Optional.of(savedCompany);
     }
 }
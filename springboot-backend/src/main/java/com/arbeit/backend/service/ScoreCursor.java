@@ -0,0 +1,43 @@
+package com.arbeit.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque (score, id) position for keyset pagination over ranked results
+public final class ScoreCursor {
+
+    private final double score;
+    private final Long id;
+
+    public ScoreCursor(double score, Long id) {
+        this.score = score;
+        this.id = id;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScoreCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ScoreCursor(Double.parseDouble(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
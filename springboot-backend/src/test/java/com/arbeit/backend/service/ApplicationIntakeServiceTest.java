@@ -0,0 +1,155 @@
+package com.arbeit.backend.service;
+
+import com.arbeit.backend.dto.ApplicationDTO;
+import com.arbeit.backend.dto.ApplicationIntakeStatus;
+import com.arbeit.backend.model.Application;
+import com.arbeit.backend.model.Job;
+import com.arbeit.backend.search.JobCatalog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ApplicationIntakeServiceTest {
+
+    private static final String BAD_COVER_LETTER = "x".repeat(400);
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final ApplicationService applicationService = mock(ApplicationService.class);
+    private final JobCatalog jobCatalog = mock(JobCatalog.class);
+    private final IdAllocator idAllocator = mock(IdAllocator.class);
+    private final List<String> savedUserIds = new CopyOnWriteArrayList<>();
+    private final List<ApplicationIntakeService> services = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AtomicInteger ids = new AtomicInteger(100);
+        when(jobCatalog.getByJobId("J000001")).thenReturn(new Job());
+        when(idAllocator.nextId(IdAllocator.Sequence.APPLICATION)).thenAnswer(inv -> String.valueOf(ids.getAndIncrement()));
+        when(applicationService.newApplication(any(), anyString())).thenAnswer(inv -> {
+            ApplicationDTO dto = inv.getArgument(0);
+            Application application = new Application(inv.getArgument(1), dto.getJobId(), dto.getEmail());
+            application.setFullName(dto.getFullName());
+            application.setCoverLetter(dto.getCoverLetter());
+            return application;
+        });
+        // Stands in for the VARCHAR(255) column: any batch holding an oversized cover letter fails as a whole
+        when(applicationService.saveQueued(anyList())).thenAnswer(inv -> {
+            List<Application> applications = inv.getArgument(0);
+            for (Application application : applications) {
+                if (application.getCoverLetter().length() > 255) {
+                    throw new DataIntegrityViolationException("Value too long for column cover_letter");
+                }
+            }
+            for (Application application : applications) {
+                savedUserIds.add(application.getUserId());
+            }
+            return Set.of();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (ApplicationIntakeService service : services) {
+            service.stop();
+        }
+    }
+
+    @Test
+    void failingEntryIsRejectedWithoutHoldingBackItsBatch() throws Exception {
+        ApplicationIntakeService service = newService(1);
+        List<String> trackingIds = new ArrayList<>();
+        trackingIds.add(submit(service, "ok"));
+        String bad = submit(service, BAD_COVER_LETTER);
+        trackingIds.add(submit(service, "ok"));
+        service.start();
+
+        awaitDone(service, bad);
+        assertThat(service.getStatus(bad).get().getStatus()).isEqualTo(ApplicationIntakeStatus.REJECTED);
+        for (String trackingId : trackingIds) {
+            awaitDone(service, trackingId);
+            assertThat(service.getStatus(trackingId).get().getStatus()).isEqualTo(ApplicationIntakeStatus.ACCEPTED);
+        }
+        assertThat(savedUserIds).containsExactlyInAnyOrder("100", "102");
+    }
+
+    @Test
+    void restartReplaysQueuedEntriesAndCompactsFinishedOnes() throws Exception {
+        ApplicationIntakeService first = newService(1);
+        String good = submit(first, "ok");
+        String bad = submit(first, BAD_COVER_LETTER);
+        first.stop();
+        services.remove(first);
+        assertThat(Files.readAllLines(journal())).hasSize(2);
+
+        // Nothing was processed, so both come back queued
+        ApplicationIntakeService second = newService(1);
+        assertThat(second.getStatus(good).get().getStatus()).isEqualTo(ApplicationIntakeStatus.QUEUED);
+        assertThat(second.getStatus(bad).get().getStatus()).isEqualTo(ApplicationIntakeStatus.QUEUED);
+        second.start();
+        awaitDone(second, good);
+        awaitDone(second, bad);
+        second.stop();
+        services.remove(second);
+
+        // Outcomes survive the restart, nothing is re-queued, and the compacted journal is empty
+        ApplicationIntakeService third = newService(1);
+        assertThat(third.getStatus(good).get().getStatus()).isEqualTo(ApplicationIntakeStatus.ACCEPTED);
+        assertThat(third.getStatus(bad).get().getStatus()).isEqualTo(ApplicationIntakeStatus.REJECTED);
+        assertThat(Files.readAllLines(journal())).isEmpty();
+        assertThat(savedUserIds).containsExactly("100");
+    }
+
+    private ApplicationIntakeService newService(int workers) throws Exception {
+        ApplicationIntakeService service = new ApplicationIntakeService(applicationService, jobCatalog, idAllocator,
+                objectMapper, new SimpleMeterRegistry(), journal().toString(), 100, workers, 10, 1000);
+        service.recover();
+        services.add(service);
+        return service;
+    }
+
+    private Path journal() {
+        return dir.resolve("intake.log");
+    }
+
+    private static String submit(ApplicationIntakeService service, String coverLetter) throws Exception {
+        ApplicationDTO dto = new ApplicationDTO();
+        dto.setJobId("J000001");
+        dto.setFullName("Applicant");
+        dto.setEmail("applicant@example.com");
+        dto.setCoverLetter(coverLetter);
+        return service.submit(dto).orElseThrow().getTrackingId();
+    }
+
+    private static void awaitDone(ApplicationIntakeService service, String trackingId) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (!ApplicationIntakeStatus.QUEUED.equals(service.getStatus(trackingId).get().getStatus())) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Still queued: " + trackingId);
+    }
+}